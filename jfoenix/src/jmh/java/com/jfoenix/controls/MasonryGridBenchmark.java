@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXMasonryPane.LayoutMode;
+import javafx.geometry.BoundingBox;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares filling the dense matrix and the {@link JFXMasonryPane.SparseGrid} with the same blocks,
+ * the grid has enough rows to place all the blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MasonryGridBenchmark {
+
+    @Param({"MASONRY", "BIN_PACKING"})
+    public String layoutMode;
+
+    @Param({"10000"})
+    public int children;
+
+    @Param({"10"})
+    public int columns;
+
+    private LayoutMode mode;
+    private List<Region> blocks;
+    private int rows;
+
+    @Setup
+    public void setup() {
+        mode = "MASONRY".equals(layoutMode) ? LayoutMode.MASONRY : LayoutMode.BIN_PACKING;
+        blocks = MasonryGridEquivalence.createBlocks(new Random(42), children);
+        rows = 0;
+        for (Region block : blocks) {
+            rows += mode.getRowsNeeded(block, MasonryGridEquivalence.CELL_HEIGHT, 0);
+        }
+        // only measure equivalent placements
+        if (!Objects.equals(denseGrid(), sparseGrid())) {
+            throw new IllegalStateException("sparse and dense placements differ");
+        }
+    }
+
+    @Benchmark
+    public List<BoundingBox> denseGrid() {
+        return MasonryGridEquivalence.fillDense(mode, blocks, rows, columns, 0);
+    }
+
+    @Benchmark
+    public List<BoundingBox> sparseGrid() {
+        return MasonryGridEquivalence.fillSparse(mode, blocks, rows, columns, 0);
+    }
+}
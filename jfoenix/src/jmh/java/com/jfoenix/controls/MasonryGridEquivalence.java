@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXMasonryPane.LayoutMode;
+import com.jfoenix.controls.JFXMasonryPane.SparseGrid;
+import javafx.geometry.BoundingBox;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Randomized check that the built-in layout modes place the blocks in a {@link SparseGrid}
+ * exactly as their dense matrix implementation does.
+ * <p>
+ * usage: MasonryGridEquivalence [runs] [seed]
+ */
+public final class MasonryGridEquivalence {
+
+    static final double CELL_WIDTH = 70;
+    static final double CELL_HEIGHT = 70;
+
+    private MasonryGridEquivalence() {
+    }
+
+    public static void main(String[] args) {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        final Random random = new Random(seed);
+        for (int run = 0; run < runs; run++) {
+            final long runSeed = random.nextLong();
+            check(LayoutMode.MASONRY, runSeed);
+            check(LayoutMode.BIN_PACKING, runSeed);
+        }
+        System.out.println("sparse and dense placements match for " + runs + " runs (seed " + seed + ")");
+    }
+
+    /**
+     * places random blocks using both grids
+     *
+     * @throws IllegalStateException if the placements differ
+     */
+    static void check(LayoutMode mode, long seed) {
+        final Random random = new Random(seed);
+        final int columns = 1 + random.nextInt(8);
+        final int count = 1 + random.nextInt(60);
+        final double gutter = random.nextBoolean() ? 0 : 1 + random.nextInt(8);
+        final List<Region> blocks = createBlocks(random, count);
+        // sometimes too few rows, so the last blocks don't fit
+        final int rows = 1 + random.nextInt(count * 3);
+        final List<BoundingBox> dense = fillDense(mode, blocks, rows, columns, gutter);
+        final List<BoundingBox> sparse = fillSparse(mode, blocks, rows, columns, gutter);
+        if (!Objects.equals(dense, sparse)) {
+            throw new IllegalStateException(mode.getClass().getSimpleName() + " placements differ (seed " + seed
+                                            + ")\ndense:  " + dense + "\nsparse: " + sparse);
+        }
+    }
+
+    /**
+     * @return blocks spanning up to 3 cells in each direction, their sizes are not
+     * multiples of the cells size
+     */
+    static List<Region> createBlocks(Random random, int count) {
+        final List<Region> blocks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Region block = new Region();
+            block.setPrefSize(10 + random.nextDouble() * 3 * CELL_WIDTH, 10 + random.nextDouble() * 3 * CELL_HEIGHT);
+            blocks.add(block);
+        }
+        return blocks;
+    }
+
+    static List<BoundingBox> fillDense(LayoutMode mode, List<Region> blocks, int rows, int columns, double gutter) {
+        return mode.fillGrid(new int[rows][columns], blocks, CELL_WIDTH, CELL_HEIGHT, rows, columns, gutter, gutter);
+    }
+
+    static List<BoundingBox> fillSparse(LayoutMode mode, List<Region> blocks, int rows, int columns, double gutter) {
+        return mode.fillGrid(new SparseGrid(rows, columns), blocks, CELL_WIDTH, CELL_HEIGHT, gutter, gutter);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import com.jfoenix.controls.JFXButton;
+import com.jfoenix.controls.JFXDialog;
+import com.jfoenix.controls.JFXHamburger;
+import com.jfoenix.transitions.hamburger.HamburgerBackArrowBasicTransition;
+import com.jfoenix.transitions.hamburger.HamburgerBasicCloseTransition;
+import com.jfoenix.transitions.hamburger.HamburgerNextArrowBasicTransition;
+import com.jfoenix.transitions.hamburger.HamburgerSlideCloseTransition;
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.layout.StackPane;
+
+import java.lang.reflect.Constructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * creates the {@link CachedTransition}s used by the JFoenix controls (button, check box, dialog
+ * and hamburger), the private transitions of the skins and controls are created using reflection.
+ */
+final class CachedTransitionSamples {
+
+    private static boolean started = false;
+
+    private CachedTransitionSamples() {
+    }
+
+    /**
+     * starts the FX application thread if it's not started yet
+     */
+    static synchronized void startFX() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        final CountDownLatch latch = new CountDownLatch(1);
+        PlatformImpl.startup(latch::countDown);
+        latch.await();
+        started = true;
+    }
+
+    /**
+     * runs the callable on the FX application thread and waits for its result
+     */
+    static <V> V callInFX(Callable<V> callable) throws Exception {
+        final FutureTask<V> task = new FutureTask<>(callable);
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * must be called from the FX application thread
+     *
+     * @return the transitions mapped by name
+     */
+    static Map<String, CachedTransition> create() throws ReflectiveOperationException {
+        final Map<String, CachedTransition> transitions = new LinkedHashMap<>();
+        final JFXButton button = new JFXButton();
+        transitions.put("button", newTransition("com.jfoenix.skins.JFXButtonSkin$ButtonClickTransition",
+            new Class<?>[]{Node.class, DropShadow.class}, button, new DropShadow()));
+        transitions.put("checkbox", newTransition("com.jfoenix.skins.JFXCheckBoxSkin$CheckBoxTransition",
+            new Class<?>[]{Node.class}, new StackPane()));
+        final JFXDialog dialog = new JFXDialog();
+        for (String transition : new String[]{"Center", "Left", "Right", "Top", "Bottom"}) {
+            transitions.put("dialog-" + transition.toLowerCase(),
+                newTransition("com.jfoenix.controls.JFXDialog$" + transition + "Transition",
+                    new Class<?>[]{JFXDialog.class}, dialog));
+        }
+        transitions.put("hamburger-close", new HamburgerBasicCloseTransition(createHamburger()));
+        transitions.put("hamburger-back-arrow", new HamburgerBackArrowBasicTransition(createHamburger()));
+        transitions.put("hamburger-next-arrow", new HamburgerNextArrowBasicTransition(createHamburger()));
+        transitions.put("hamburger-slide-close", new HamburgerSlideCloseTransition(createHamburger()));
+        return transitions;
+    }
+
+    /**
+     * @return a laid out hamburger, its transitions timelines are computed from its bounds
+     */
+    private static JFXHamburger createHamburger() {
+        final JFXHamburger hamburger = new JFXHamburger();
+        final StackPane root = new StackPane(hamburger);
+        new Scene(root);
+        root.applyCss();
+        root.layout();
+        return hamburger;
+    }
+
+    private static CachedTransition newTransition(String className, Class<?>[] types, Object... args)
+        throws ReflectiveOperationException {
+        final Constructor<?> constructor = Class.forName(className).getDeclaredConstructor(types);
+        constructor.setAccessible(true);
+        return (CachedTransition) constructor.newInstance(args);
+    }
+}
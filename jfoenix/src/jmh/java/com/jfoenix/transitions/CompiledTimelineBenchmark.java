@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compares the per frame cost of seeking the timeline of a {@link CachedTransition} (playFrom / stop)
+ * with evaluating its {@link CompiledTimeline}. The frames are run in batches on the FX application
+ * thread, as done by the transitions. The dialog timelines can't be compiled, so they are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompiledTimelineBenchmark {
+
+    private static final int FRAMES = 1000;
+
+    @Param({"button", "checkbox", "hamburger-close", "hamburger-slide-close"})
+    public String transition;
+
+    private Timeline timeline;
+    private CompiledTimeline compiledTimeline;
+
+    @Setup
+    public void setup() throws Exception {
+        CachedTransitionSamples.startFX();
+        CachedTransitionSamples.callInFX(() -> {
+            final CachedTransition cachedTransition = CachedTransitionSamples.create().get(transition);
+            // only measure equivalent timelines
+            if (!CompiledTimelineEquivalence.check(transition, cachedTransition)) {
+                throw new IllegalStateException("the timeline of " + transition + " can't be compiled");
+            }
+            timeline = cachedTransition.timeline.get();
+            compiledTimeline = CompiledTimeline.compile(timeline);
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void seekTimeline() throws Exception {
+        CachedTransitionSamples.callInFX(() -> {
+            for (int i = 0; i < FRAMES; i++) {
+                timeline.playFrom(Duration.seconds(i / (double) FRAMES));
+                timeline.stop();
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void compiledTimeline() throws Exception {
+        CachedTransitionSamples.callInFX(() -> {
+            for (int i = 0; i < FRAMES; i++) {
+                compiledTimeline.interpolate(i * 1000.0 / FRAMES);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.value.WritableValue;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Checks that {@link CompiledTimeline#interpolate(double)} sets the same target values as
+ * seeking the timeline (playFrom / stop), for the timelines of the {@link CachedTransition}s
+ * used by the JFoenix controls. Timelines that can't be compiled are still seeked by
+ * the transitions, they are only reported.
+ */
+public final class CompiledTimelineEquivalence {
+
+    private static final int STEPS = 200;
+
+    private CompiledTimelineEquivalence() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CachedTransitionSamples.startFX();
+        try {
+            CachedTransitionSamples.callInFX(() -> {
+                for (Map.Entry<String, CachedTransition> entry : CachedTransitionSamples.create().entrySet()) {
+                    final boolean compiled = check(entry.getKey(), entry.getValue());
+                    System.out.println(entry.getKey() + (compiled ? ": compiled values match" : ": seeked"));
+                }
+                return null;
+            });
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    /**
+     * compares the compiled and the seeked values of the transition timeline targets
+     *
+     * @return false if the timeline can't be compiled
+     * @throws IllegalStateException if a value differs
+     */
+    static boolean check(String name, CachedTransition transition) {
+        final Timeline timeline = transition.timeline.get();
+        final CompiledTimeline compiledTimeline = CompiledTimeline.compile(timeline);
+        if (!compiledTimeline.isSupported()) {
+            return false;
+        }
+        final List<WritableValue<?>> targets = getTargets(timeline);
+        for (int i = 0; i <= STEPS; i++) {
+            final double frac = i / (double) STEPS;
+            compiledTimeline.interpolate(frac * 1000);
+            final Object[] compiledValues = getValues(targets);
+            timeline.playFrom(Duration.seconds(frac));
+            timeline.stop();
+            final Object[] seekedValues = getValues(targets);
+            for (int k = 0; k < targets.size(); k++) {
+                if (!matches(compiledValues[k], seekedValues[k])) {
+                    throw new IllegalStateException(name + ": the value of " + targets.get(k) + " at " + frac
+                                                    + " is " + compiledValues[k] + " instead of " + seekedValues[k]);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<WritableValue<?>> getTargets(Timeline timeline) {
+        final Set<WritableValue<?>> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<WritableValue<?>> orderedTargets = new ArrayList<>();
+        for (KeyFrame keyFrame : timeline.getKeyFrames()) {
+            for (KeyValue keyValue : keyFrame.getValues()) {
+                if (targets.add(keyValue.getTarget())) {
+                    orderedTargets.add(keyValue.getTarget());
+                }
+            }
+        }
+        return orderedTargets;
+    }
+
+    private static Object[] getValues(List<WritableValue<?>> targets) {
+        final Object[] values = new Object[targets.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = targets.get(i).getValue();
+        }
+        return values;
+    }
+
+    private static boolean matches(Object value, Object expected) {
+        if (value instanceof Number && expected instanceof Number) {
+            final double a = ((Number) value).doubleValue();
+            final double b = ((Number) expected).doubleValue();
+            return Double.compare(a, b) == 0 || Math.abs(a - b) <= 1e-9 * Math.max(1, Math.abs(b));
+        }
+        return Objects.equals(value, expected);
+    }
+}
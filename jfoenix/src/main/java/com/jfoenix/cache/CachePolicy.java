@@ -22,11 +22,9 @@ package com.jfoenix.cache;
 import com.jfoenix.transitions.CacheMemento;
 import javafx.scene.CacheHint;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
 import java.util.WeakHashMap;
@@ -75,19 +73,19 @@ public interface CachePolicy<T extends Node> {
     CachePolicy<Pane> IMAGE = new CachePolicy<Pane>() {
 
         private WeakHashMap<Node, ArrayList<Node>> cache = new WeakHashMap<>();
+        private WeakHashMap<Node, WritableImage> images = new WeakHashMap<>();
 
         @Override
         public void cache(Pane node) {
             if (!cache.containsKey(node)) {
-                SnapshotParameters snapShotparams = new SnapshotParameters();
-                snapShotparams.setFill(Color.TRANSPARENT);
-                WritableImage temp = node.snapshot(snapShotparams,
-                    new WritableImage((int) node.getLayoutBounds().getWidth(),
-                        (int) node.getLayoutBounds().getHeight()));
+                WritableImage temp = SnapshotPool.getInstance().snapshot(node,
+                    (int) node.getLayoutBounds().getWidth(),
+                    (int) node.getLayoutBounds().getHeight());
                 ImageView tempImage = new ImageView(temp);
                 tempImage.setCache(true);
                 tempImage.setCacheHint(CacheHint.SPEED);
                 cache.put(node, new ArrayList<>(node.getChildren()));
+                images.put(node, temp);
                 node.getChildren().setAll(tempImage);
             }
         }
@@ -97,6 +95,8 @@ public interface CachePolicy<T extends Node> {
             ArrayList<Node> children = cache.remove(node);
             if (children != null) {
                 node.getChildren().setAll(children);
+                // the snapshot is no longer displayed
+                SnapshotPool.getInstance().release(images.remove(node));
             }
         }
     };
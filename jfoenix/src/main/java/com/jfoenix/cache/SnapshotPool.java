@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.cache;
+
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * Pool of snapshot image buffers, shared by JFoenix snapshot based caches / animations
+ * ({@link CachePolicy#IMAGE}, JFXDialog cache container and the date picker month
+ * transition) to reuse image buffers of the same size instead of allocating a new
+ * image for each snapshot.
+ * <p>
+ * released images are kept by size until the pool memory limit is reached, then the
+ * least recently released images are evicted.
+ * <p>
+ * NOTE: the pool must only be used from the FX application thread, an image must be
+ * released only when it's no longer displayed
+ */
+public final class SnapshotPool {
+
+    private static final SnapshotPool INSTANCE = new SnapshotPool();
+
+    public static SnapshotPool getInstance() {
+        return INSTANCE;
+    }
+
+    // free images by size
+    private final HashMap<Long, ArrayDeque<WritableImage>> images = new HashMap<>();
+    // free images in release order, used for eviction
+    private final ArrayDeque<WritableImage> releaseOrder = new ArrayDeque<>();
+    private long memory = 0;
+    private long maxMemory = 64L * 1024 * 1024;
+
+    private SnapshotPool() {
+    }
+
+    /**
+     * @return a pooled image of the specified size, or a new image if there is none
+     */
+    public WritableImage acquire(int width, int height) {
+        final ArrayDeque<WritableImage> sizeImages = images.get(key(width, height));
+        if (sizeImages != null && !sizeImages.isEmpty()) {
+            final WritableImage image = sizeImages.pollLast();
+            releaseOrder.remove(image);
+            memory -= sizeOf(image);
+            return image;
+        }
+        return new WritableImage(width, height);
+    }
+
+    /**
+     * takes a snapshot of the node, with transparent fill, into a pooled image
+     *
+     * @return the snapshot image, it should be released when it's no longer displayed
+     */
+    public WritableImage snapshot(Node node, int width, int height) {
+        SnapshotParameters snapShotparams = new SnapshotParameters();
+        snapShotparams.setFill(Color.TRANSPARENT);
+        return node.snapshot(snapShotparams, acquire(width, height));
+    }
+
+    /**
+     * returns the image to the pool
+     *
+     * @param image the released image, can be null. images that are already released are ignored
+     */
+    public void release(WritableImage image) {
+        if (image == null || releaseOrder.contains(image)) {
+            return;
+        }
+        final long size = sizeOf(image);
+        if (size > maxMemory) {
+            return;
+        }
+        images.computeIfAbsent(key((int) image.getWidth(), (int) image.getHeight()), k -> new ArrayDeque<>())
+            .addLast(image);
+        releaseOrder.addLast(image);
+        memory += size;
+        evict();
+    }
+
+    /**
+     * removes all pooled images
+     */
+    public void clear() {
+        images.clear();
+        releaseOrder.clear();
+        memory = 0;
+    }
+
+    /**
+     * @return the memory of pooled images in bytes
+     */
+    public long getMemory() {
+        return memory;
+    }
+
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * sets the maximum memory of pooled images in bytes, by default it's 64 MB
+     */
+    public void setMaxMemory(long maxMemory) {
+        this.maxMemory = maxMemory;
+        evict();
+    }
+
+    private void evict() {
+        while (memory > maxMemory && !releaseOrder.isEmpty()) {
+            final WritableImage image = releaseOrder.pollFirst();
+            final Long key = key((int) image.getWidth(), (int) image.getHeight());
+            final ArrayDeque<WritableImage> sizeImages = images.get(key);
+            sizeImages.remove(image);
+            if (sizeImages.isEmpty()) {
+                images.remove(key);
+            }
+            memory -= sizeOf(image);
+        }
+    }
+
+    private static long sizeOf(WritableImage image) {
+        // 4 bytes per pixel
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    private static Long key(int width, int height) {
+        return ((long) width << 32) | (height & 0xffffffffL);
+    }
+}
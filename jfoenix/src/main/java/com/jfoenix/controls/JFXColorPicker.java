@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.skins.JFXColorPickerSkin;
 import com.sun.javafx.css.converters.BooleanConverter;
 import javafx.css.CssMetaData;
@@ -41,7 +42,7 @@ import java.util.List;
  * @version 1.0
  * @since 2016-03-09
  */
-public class JFXColorPicker extends ColorPicker {
+public class JFXColorPicker extends ColorPicker implements IFXStaticControl {
 
     /**
      * {@inheritDoc}
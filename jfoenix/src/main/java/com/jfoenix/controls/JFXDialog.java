@@ -19,10 +19,12 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.cache.SnapshotPool;
 import com.jfoenix.controls.events.JFXDialogEvent;
 import com.jfoenix.converters.DialogTransitionConverter;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -44,7 +46,6 @@ import javafx.geometry.Pos;
 import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.Parent;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
@@ -280,6 +281,7 @@ public class JFXDialog extends StackPane {
     }
 
     private ArrayList<Node> tempContent;
+    private WritableImage tempSnapshot;
 
     /**
      * show the dialog inside its parent container
@@ -296,12 +298,10 @@ public class JFXDialog extends StackPane {
         if (isCacheContainer()) {
             tempContent = new ArrayList<>(dialogContainer.getChildren());
 
-            SnapshotParameters snapShotparams = new SnapshotParameters();
-            snapShotparams.setFill(Color.TRANSPARENT);
-            WritableImage temp = dialogContainer.snapshot(snapShotparams,
-                new WritableImage((int) dialogContainer.getWidth(),
-                    (int) dialogContainer.getHeight()));
-            ImageView tempImage = new ImageView(temp);
+            tempSnapshot = SnapshotPool.getInstance().snapshot(dialogContainer,
+                (int) dialogContainer.getWidth(),
+                (int) dialogContainer.getHeight());
+            ImageView tempImage = new ImageView(tempSnapshot);
             tempImage.setCache(true);
             tempImage.setCacheHint(CacheHint.SPEED);
             dialogContainer.getChildren().setAll(tempImage, this);
@@ -325,7 +325,7 @@ public class JFXDialog extends StackPane {
      * close the dialog
      */
     public void close() {
-        if (animation != null) {
+        if (animation != null && !isReducedMotion()) {
             animation.setRate(-1);
             animation.play();
             animation.setOnFinished(e -> {
@@ -346,6 +346,8 @@ public class JFXDialog extends StackPane {
             dialogContainer.getChildren().remove(this);
         } else {
             dialogContainer.getChildren().setAll(tempContent);
+            SnapshotPool.getInstance().release(tempSnapshot);
+            tempSnapshot = null;
         }
     }
 
@@ -358,7 +360,8 @@ public class JFXDialog extends StackPane {
     private Transition getShowAnimation(DialogTransition transitionType) {
         Transition animation = null;
         if (contentHolder != null) {
-            switch (transitionType) {
+            // no transition is created in reduced motion mode
+            switch (isReducedMotion() ? DialogTransition.NONE : transitionType) {
                 case LEFT:
                     contentHolder.setScaleX(1);
                     contentHolder.setScaleY(1);
@@ -404,6 +407,17 @@ public class JFXDialog extends StackPane {
         return animation;
     }
 
+    /**
+     * @return true if the dialog is shown / closed without animation, the reduced
+     * motion mode is resolved from the dialog container if the dialog is not shown
+     */
+    private boolean isReducedMotion() {
+        if (getParent() == null && JFXReducedMotion.getReducedMotion(this) == null) {
+            return JFXReducedMotion.isReducedMotion(dialogContainer);
+        }
+        return JFXReducedMotion.isReducedMotion(this);
+    }
+
     private void resetProperties() {
         this.setVisible(false);
         contentHolder.setTranslateX(0);
@@ -188,6 +188,7 @@ public class JFXDrawer extends StackPane {
         initialize();
         this.duration = duration;
         translateTimer = createDrawerAnimation(duration);
+        translateTimer.setOwner(this);
         contentHolder.setPickOnBounds(false);
         addEventHandler(JFXDrawerEvent.CLOSED, handler -> Platform.runLater(() -> getCachePolicy().restore(contentHolder)));
 
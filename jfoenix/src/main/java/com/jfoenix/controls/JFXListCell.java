@@ -20,7 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.svg.SVGGlyph;
-import com.jfoenix.utils.JFXNodeUtils;
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -29,6 +29,7 @@ import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.event.EventHandler;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -63,22 +64,13 @@ import java.util.Set;
  */
 public class JFXListCell<T> extends ListCell<T> {
 
-    protected JFXRippler cellRippler = new JFXRippler(this) {
-        @Override
-        protected Node getMask() {
-            Region clip = new Region();
-            JFXNodeUtils.updateBackground(JFXListCell.this.getBackground(), clip);
-            double width = control.getLayoutBounds().getWidth();
-            double height = control.getLayoutBounds().getHeight();
-            clip.resize(width, height);
-            return clip;
-        }
+    /**
+     * the cell rippler is created lazily when the cell is pressed for the first time,
+     * thus it's null for cells that were never pressed
+     */
+    protected JFXRippler cellRippler;
 
-        @Override
-        protected void positionControl(Node control) {
-            // do nothing
-        }
-    };
+    private final EventHandler<MouseEvent> createRipplerHandler = event -> createCellRippler();
 
     protected Node cellContent;
     private Rectangle clip;
@@ -96,6 +88,39 @@ public class JFXListCell<T> extends ListCell<T> {
     public JFXListCell() {
         initialize();
         initListeners();
+        // the rippler handlers are registered before the bubbling phase of the first press
+        addEventFilter(MouseEvent.MOUSE_PRESSED, createRipplerHandler);
+    }
+
+    /**
+     * creates the cell rippler if it's not created yet
+     */
+    private void createCellRippler() {
+        if (cellRippler != null) {
+            return;
+        }
+        removeEventFilter(MouseEvent.MOUSE_PRESSED, createRipplerHandler);
+        cellRippler = new JFXRippler(this) {
+            @Override
+            protected Node getMask() {
+                Region clip = getReusableMask() instanceof Region ? (Region) getReusableMask() : new Region();
+                updateMaskBackground(JFXListCell.this.getBackground(), clip);
+                double width = control.getLayoutBounds().getWidth();
+                double height = control.getLayoutBounds().getHeight();
+                clip.resize(width, height);
+                return clip;
+            }
+
+            @Override
+            protected void positionControl(Node control) {
+                // do nothing
+            }
+        };
+        makeChildrenTransparent();
+        getChildren().add(0, cellRippler);
+        // the ripple is shown before the next layout pass
+        cellRippler.applyCss();
+        cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
     }
 
     /**
@@ -106,10 +131,17 @@ public class JFXListCell<T> extends ListCell<T> {
             if (newList != null) {
                 if (getListView() instanceof JFXListView) {
                     ((JFXListView<?>) newList).currentVerticalGapProperty().addListener((o, oldVal, newVal) -> {
-                        cellRippler.rippler.setClip(null);
+                        if (cellRippler != null) {
+                            cellRippler.rippler.setClip(null);
+                        }
                         if (newVal.doubleValue() != 0) {
                             playExpandAnimation = true;
                             getListView().requestLayout();
+                        } else if (JFXReducedMotion.isReducedMotion(this)) {
+                            double gap = clip.getY() * 2;
+                            setTranslateY(-gap / 2 - (gap * (getIndex())));
+                            requestLayout();
+                            Platform.runLater(() -> getListView().requestLayout());
                         } else {
                             // fake expand state
                             double gap = clip.getY() * 2;
@@ -140,7 +172,9 @@ public class JFXListCell<T> extends ListCell<T> {
     @Override
     protected void layoutChildren() {
         super.layoutChildren();
-        cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        if (cellRippler != null) {
+            cellRippler.resizeRelocate(0, 0, getWidth(), getHeight());
+        }
         double gap = getGap();
 
         if (clip == null) {
@@ -148,7 +182,7 @@ public class JFXListCell<T> extends ListCell<T> {
             setClip(clip);
         } else {
             if (gap != 0) {
-                if (playExpandAnimation || selectionChanged) {
+                if ((playExpandAnimation || selectionChanged) && !JFXReducedMotion.isReducedMotion(this)) {
                     // fake list collapse state
                     if (playExpandAnimation) {
                         this.setTranslateY(-gap / 2 + (-gap * (getIndex())));
@@ -172,6 +206,8 @@ public class JFXListCell<T> extends ListCell<T> {
                     selectionChanged = false;
                     gapAnimation.play();
                 } else {
+                    playExpandAnimation = false;
+                    selectionChanged = false;
                     if (gapAnimation != null) {
                         gapAnimation.stop();
                     }
@@ -187,7 +223,7 @@ public class JFXListCell<T> extends ListCell<T> {
             clip.setX(0);
             clip.setWidth(getWidth());
         }
-        if (!getChildren().contains(cellRippler)) {
+        if (cellRippler != null && !getChildren().contains(cellRippler)) {
             makeChildrenTransparent();
             getChildren().add(0, cellRippler);
             cellRippler.rippler.clear();
@@ -239,11 +275,14 @@ public class JFXListCell<T> extends ListCell<T> {
                 Node newNode = (Node) item;
                 if (currentNode == null || !currentNode.equals(newNode)) {
                     cellContent = newNode;
-                    cellRippler.rippler.cacheRippleClip(false);
+                    if (cellRippler != null) {
+                        cellRippler.rippler.cacheRippleClip(false);
+                    }
                     // build the Cell node
                     // RIPPLER ITEM : in case if the list item has its own rippler bind the list rippler and item rippler properties
                     if (newNode instanceof JFXRippler) {
                         // build cell container from exisiting rippler
+                        createCellRippler();
                         cellRippler.ripplerFillProperty().bind(((JFXRippler) newNode).ripplerFillProperty());
                         cellRippler.maskTypeProperty().bind(((JFXRippler) newNode).maskTypeProperty());
                         cellRippler.positionProperty().bind(((JFXRippler) newNode).positionProperty());
@@ -295,6 +334,8 @@ public class JFXListCell<T> extends ListCell<T> {
                         contentHolder.getStyleClass().add("sublist-container");
                         VBox.setVgrow(groupNode, Priority.ALWAYS);
                         cellContent = contentHolder;
+                        // mouse events are forwarded to the rippler
+                        createCellRippler();
                         cellRippler.ripplerPane.addEventHandler(MouseEvent.ANY, e -> e.consume());
                         contentHolder.addEventHandler(MouseEvent.ANY, e -> {
                             if (!e.isConsumed()) {
@@ -337,6 +378,17 @@ public class JFXListCell<T> extends ListCell<T> {
                             animatedHeight = newAnimatedHeight;
 
                             int opacity = expandedProperty.get() ? 1 : 0;
+                            if (JFXReducedMotion.isReducedMotion(this)) {
+                                sublistContainer.setMinHeight(contentHeight);
+                                sublistContainer.setMaxHeight(contentHeight);
+                                sublistContainer.setOpacity(opacity);
+                                if (!expandedProperty.get()) {
+                                    updateClipHeight(newHeight);
+                                    getListView().setPrefHeight(getListView().getHeight() + newAnimatedHeight);
+                                    animatedHeight = 0;
+                                }
+                                return;
+                            }
                             expandAnimation = new Timeline(new KeyFrame(Duration.millis(320),
                                 new KeyValue(sublistContainer.minHeightProperty(),
                                     contentHeight,
@@ -360,7 +412,9 @@ public class JFXListCell<T> extends ListCell<T> {
 
                         // animate arrow
                         expandedProperty.addListener((o, oldVal, newVal) -> {
-                            if (newVal) {
+                            if (JFXReducedMotion.isReducedMotion(this)) {
+                                dropIcon.setRotate(newVal ? 90 : 0);
+                            } else if (newVal) {
                                 new Timeline(new KeyFrame(Duration.millis(160),
                                     new KeyValue(dropIcon.rotateProperty(),
                                         90,
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
+
+/**
+ * Cell of {@link JFXVirtualMasonryPane}, cells are recycled while scrolling
+ * so custom cells should override {@link #updateItem(Object, boolean)} the
+ * same way as list cells.
+ * <p>
+ * By default the cell shows the item as its graphic if it's a node,
+ * otherwise it shows the item string value.
+ */
+public class JFXMasonryCell<T> extends IndexedCell<T> {
+
+    /**
+     * {@inheritDoc}
+     */
+    public JFXMasonryCell() {
+        getStyleClass().add(DEFAULT_STYLE_CLASS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setText(null);
+            setGraphic(null);
+        } else if (item instanceof Node) {
+            setText(null);
+            setGraphic((Node) item);
+        } else {
+            setText(item.toString());
+            setGraphic(null);
+        }
+    }
+
+    /**
+     * updates the cell item, called by the masonry pane when the cell is (re)used
+     */
+    void updateMasonryItem(int index, T item) {
+        updateIndex(index);
+        updateItem(item, index == -1);
+    }
+
+    /**
+     * Initialize the style class to 'jfx-masonry-cell'.
+     * <p>
+     * This is the selector class from which CSS can be used to style
+     * this control.
+     */
+    private static final String DEFAULT_STYLE_CLASS = "jfx-masonry-cell";
+}
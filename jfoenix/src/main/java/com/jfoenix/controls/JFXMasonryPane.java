@@ -19,16 +19,15 @@
 
 package com.jfoenix.controls;
 
-import com.jfoenix.transitions.CachedTransition;
-import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.ParallelTransition;
-import javafx.animation.Timeline;
-import javafx.animation.Transition;
+import com.jfoenix.transitions.CacheMemento;
+import com.jfoenix.transitions.JFXAnimationGovernor;
+import com.jfoenix.transitions.JFXReducedMotion;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -39,9 +38,9 @@ import javafx.scene.Node;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
-import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 
@@ -66,9 +65,9 @@ public class JFXMasonryPane extends Pane {
 
     private boolean performingLayout = false;
     // these variables are computed when layoutChildren is called
-    private int[][] matrix;
-    private HashMap<Region, Transition> animationMap = null;
-    private ParallelTransition trans = new ParallelTransition();
+    private SparseGrid grid;
+    // created after the first layout pass, as the children are not animated initially
+    private RelayoutAnimator animator = null;
     private HashMap<Node, BoundingBox> boundingBoxes = new HashMap<>();
     private boolean dirtyBoxes = false;
 
@@ -77,18 +76,24 @@ public class JFXMasonryPane extends Pane {
             // flag dirty boxes
             dirtyBoxes = true;
 
-            // clean removed child nodes from animationMap
+            // clean removed child nodes from the animator
             // fixed #1003 JFXMasonryPane nullpointer when init before layout. 
-            if (animationMap != null) {
+            if (animator != null) {
                 for (Node removedNode : change.getRemoved()) {
-                    animationMap.remove(removedNode);
+                    animator.remove(removedNode);
                 }
             }
         }
-        clearLayout();
+        if (!isIncrementalLayout()) {
+            clearLayout();
+        }
         requestLayout();
     };
 
+    // children and their boxes of the last layout pass, used by the incremental layout
+    private final List<Region> placedChildren = new ArrayList<>();
+    private final List<BoundingBox> placedBoxes = new ArrayList<>();
+
     /**
      * Constructs a new JFXMasonryPane
      */
@@ -112,34 +117,28 @@ public class JFXMasonryPane extends Pane {
         col = (int) Math.floor((getWidth() + getHSpacing() - snappedLeftInset() - snappedRightInset()) / (getCellWidth() + getHSpacing()));
         col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
 
-        if (matrix != null && col == matrix[0].length) {
+        if (grid != null && col == grid.getColumns()) {
+            if (dirtyBoxes && isIncrementalLayout()) {
+                layoutIncrementally();
+            }
             performingLayout = false;
             return;
         }
         //(int) Math.floor(this.getHeight() / (cellH + 2*vSpacing));
         row = getLimitRow();
 
-        matrix = new int[row][col];
-        double minWidth = -1;
-        double minHeight = -1;
+        grid = new SparseGrid(row, col);
 
         List<BoundingBox> newBoxes;
-        List<Region> managedChildren = getManagedChildren();
-
-        // filter Region nodes
-        for (int i = 0; i < managedChildren.size(); i++) {
-            if (!(managedChildren.get(i) instanceof Region)) {
-                managedChildren.remove(i);
-                i--;
-            }
-        }
+        List<Region> managedChildren = getManagedRegions();
 
         // get bounding boxes layout
-        newBoxes = layoutMode.get().fillGrid(matrix, managedChildren,
+        newBoxes = layoutMode.get().fillGrid(grid, managedChildren,
             getCellWidth(), getCellHeight(),
-            row, col,
             getHSpacing(), getVSpacing());
 
+        placedChildren.clear();
+        placedBoxes.clear();
         if (newBoxes == null) {
             performingLayout = false;
             return;
@@ -153,90 +152,281 @@ public class JFXMasonryPane extends Pane {
         for (int i = 0; i < managedChildren.size() && i < newBoxes.size(); i++) {
             final Region child = managedChildren.get(i);
             final BoundingBox boundingBox = newBoxes.get(i);
-            if (!(child instanceof GridPane)) {
-                double blockX;
-                double blockY;
-                double blockWidth;
-                double blockHeight;
-                if (boundingBox != null) {
-                    blockX = boundingBox.getMinY() * getCellWidth() +
-                             boundingBox.getMinY() * getHSpacing() + snappedLeftInset();
-                    blockY = boundingBox.getMinX() * getCellHeight() +
-                             boundingBox.getMinX() * getVSpacing() + snappedTopInset();
-                    blockWidth = boundingBox.getWidth() * getCellWidth() +
-                                 (boundingBox.getWidth() - 1) * getHSpacing();
-                    blockHeight = boundingBox.getHeight() * getCellHeight() +
-                                  (boundingBox.getHeight() - 1) * getVSpacing();
-                } else {
-                    blockX = child.getLayoutX();
-                    blockY = child.getLayoutY();
-                    blockWidth = -1;
-                    blockHeight = -1;
-                }
+            placedChildren.add(child);
+            placedBoxes.add(boundingBox);
+            layoutChild(child, boundingBox, oldBoxes);
+        }
+        updatePrefHeight();
+
+        if (animator == null) {
+            animator = new RelayoutAnimator();
+        }
+        dirtyBoxes = false;
+        performingLayout = false;
+    }
+
+    /**
+     * places the children that were changed since the last layout pass, the grid cells
+     * of the children after the first changed child are released then the remaining
+     * children are placed against the current grid. thus appending children only places
+     * the new children, and removing a child only reflows the children after it.
+     */
+    private void layoutIncrementally() {
+        final List<Region> managedChildren = getManagedRegions();
+        // find the first changed child
+        int start = 0;
+        final int size = Math.min(managedChildren.size(), placedChildren.size());
+        while (start < size && managedChildren.get(start) == placedChildren.get(start)) {
+            start++;
+        }
+        // release the cells of the tail children
+        for (int i = start; i < placedBoxes.size(); i++) {
+            final BoundingBox box = placedBoxes.get(i);
+            if (box != null) {
+                grid.clear(box);
+            }
+        }
+        placedChildren.subList(start, placedChildren.size()).clear();
+        placedBoxes.subList(start, placedBoxes.size()).clear();
+
+        final List<Region> tail = new ArrayList<>(managedChildren.subList(start, managedChildren.size()));
+        if (!tail.isEmpty()) {
+            final List<BoundingBox> tailBoxes = layoutMode.get().fillGrid(grid, tail,
+                getCellWidth(), getCellHeight(),
+                getHSpacing(), getVSpacing());
+            if (tailBoxes == null) {
+                return;
+            }
+            for (int i = 0; i < tail.size() && i < tailBoxes.size(); i++) {
+                final Region child = tail.get(i);
+                placedChildren.add(child);
+                placedBoxes.add(tailBoxes.get(i));
+                layoutChild(child, tailBoxes.get(i), boundingBoxes);
+            }
+        }
+        // clean removed child nodes
+        boundingBoxes.keySet().removeIf(child -> child.getParent() != this);
+        updatePrefHeight();
+        dirtyBoxes = false;
+    }
+
+    /**
+     * @return the managed children of type Region
+     */
+    private List<Region> getManagedRegions() {
+        List<Region> managedChildren = getManagedChildren();
+        // filter Region nodes
+        for (int i = 0; i < managedChildren.size(); i++) {
+            if (!(managedChildren.get(i) instanceof Region)) {
+                managedChildren.remove(i);
+                i--;
+            }
+        }
+        return managedChildren;
+    }
 
-                if (animationMap == null) {
-                    // init static children
+    private double getBlockX(BoundingBox boundingBox) {
+        return boundingBox.getMinY() * getCellWidth() + boundingBox.getMinY() * getHSpacing() + snappedLeftInset();
+    }
+
+    private double getBlockY(BoundingBox boundingBox) {
+        return boundingBox.getMinX() * getCellHeight() + boundingBox.getMinX() * getVSpacing() + snappedTopInset();
+    }
+
+    private double getBlockWidth(BoundingBox boundingBox) {
+        return boundingBox.getWidth() * getCellWidth() + (boundingBox.getWidth() - 1) * getHSpacing();
+    }
+
+    private double getBlockHeight(BoundingBox boundingBox) {
+        return boundingBox.getHeight() * getCellHeight() + (boundingBox.getHeight() - 1) * getVSpacing();
+    }
+
+    /**
+     * positions the child in its block and creates its relayout animation
+     */
+    private void layoutChild(Region child, BoundingBox boundingBox, HashMap<Node, BoundingBox> oldBoxes) {
+        if (child instanceof GridPane) {
+            return;
+        }
+        double blockX;
+        double blockY;
+        double blockWidth;
+        double blockHeight;
+        if (boundingBox != null) {
+            blockX = getBlockX(boundingBox);
+            blockY = getBlockY(boundingBox);
+            blockWidth = getBlockWidth(boundingBox);
+            blockHeight = getBlockHeight(boundingBox);
+        } else {
+            blockX = child.getLayoutX();
+            blockY = child.getLayoutY();
+            blockWidth = -1;
+            blockHeight = -1;
+        }
+
+        if (animator == null) {
+            // init static children
+            child.setPrefSize(blockWidth, blockHeight);
+            child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
+        } else if (JFXReducedMotion.isReducedMotion(this)) {
+            // move the child to its block without animation
+            animator.remove(child);
+            if (boundingBox != null) {
+                child.setPrefSize(blockWidth, blockHeight);
+                child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
+            } else {
+                child.setLayoutX(blockX);
+                child.setLayoutY(blockY);
+            }
+            child.setOpacity(boundingBox == null ? 0 : 1);
+        } else {
+            BoundingBox oldBoundingBox = oldBoxes.get(child);
+            if (oldBoundingBox == null
+                || (!oldBoundingBox.equals(boundingBox) && dirtyBoxes)) {
+                // handle new children
+                child.setOpacity(0);
+                child.setPrefSize(blockWidth, blockHeight);
+                child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
+            }
+
+            if (boundingBox != null) {
+                // handle children repositioning
+                if (child.getWidth() != blockWidth || child.getHeight() != blockHeight) {
+                    child.setOpacity(0);
                     child.setPrefSize(blockWidth, blockHeight);
                     child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
-                } else {
-                    BoundingBox oldBoundingBox = oldBoxes.get(child);
-                    if (oldBoundingBox == null
-                        || (!oldBoundingBox.equals(boundingBox) && dirtyBoxes)) {
-                        // handle new children
-                        child.setOpacity(0);
-                        child.setPrefSize(blockWidth, blockHeight);
-                        child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
-                    }
+                }
+                animator.animate(child, blockX, blockY, 1);
+            } else {
+                // handle children is being hidden ( cause it can't fit in the pane )
+                animator.animate(child, blockX, blockY, 0);
+            }
+        }
 
-                    if (boundingBox != null) {
-                        // handle children repositioning
-                        if (child.getWidth() != blockWidth || child.getHeight() != blockHeight) {
-                            child.setOpacity(0);
-                            child.setPrefSize(blockWidth, blockHeight);
-                            child.resizeRelocate(blockX, blockY, blockWidth, blockHeight);
-                        }
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 1, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(1);
-                            });
-                        }});
-
-                    } else {
-                        // handle children is being hidden ( cause it can't fit in the pane )
-                        final KeyFrame keyFrame = new KeyFrame(Duration.millis(2000),
-                            new KeyValue(child.opacityProperty(), 0, Interpolator.LINEAR),
-                            new KeyValue(child.layoutXProperty(), blockX, Interpolator.LINEAR),
-                            new KeyValue(child.layoutYProperty(), blockY, Interpolator.LINEAR));
-                        animationMap.put(child, new CachedTransition(child, new Timeline(keyFrame)) {{
-                            setCycleDuration(Duration.seconds(0.320));
-                            setDelay(Duration.seconds(0));
-                            setOnFinished((finish) -> {
-                                child.setLayoutX(blockX);
-                                child.setLayoutY(blockY);
-                                child.setOpacity(0);
-                            });
-                        }});
-                    }
+        // update bounding box
+        boundingBoxes.put(child, boundingBox);
+    }
+
+    /**
+     * Animates the children to their new blocks using a single animation timer, the
+     * animation state of each child is reused and children that are already at their
+     * target (or animating to it) are skipped.
+     */
+    private static final class RelayoutAnimator extends AnimationTimer {
+        private static final double DURATION = 320;
+
+        private final HashMap<Node, ChildAnimation> animations = new HashMap<>();
+        private final List<ChildAnimation> running = new ArrayList<>();
+        private boolean started = false;
+
+        private static final class ChildAnimation {
+            private final Region child;
+            private final CacheMemento cacheMemento;
+            private int slot = -1;
+            private long startTime;
+            private double fromX, fromY, fromOpacity;
+            private double toX, toY, toOpacity;
+
+            private ChildAnimation(Region child) {
+                this.child = child;
+                this.cacheMemento = new CacheMemento(child);
+            }
+        }
+
+        void animate(Region child, double x, double y, double opacity) {
+            ChildAnimation animation = animations.get(child);
+            if (animation != null && animation.slot != -1) {
+                if (animation.toX == x && animation.toY == y && animation.toOpacity == opacity) {
+                    // already animating to the target
+                    return;
                 }
+            } else if (child.getLayoutX() == x && child.getLayoutY() == y && child.getOpacity() == opacity) {
+                // the child block didn't change
+                return;
+            }
+            if (animation == null) {
+                animation = new ChildAnimation(child);
+                animations.put(child, animation);
+            }
+            animation.fromX = child.getLayoutX();
+            animation.fromY = child.getLayoutY();
+            animation.fromOpacity = child.getOpacity();
+            animation.toX = x;
+            animation.toY = y;
+            animation.toOpacity = opacity;
+            animation.startTime = -1;
+            if (animation.slot == -1) {
+                animation.slot = running.size();
+                running.add(animation);
+                animation.cacheMemento.cache();
+            }
+            if (!started) {
+                started = true;
+                start();
+            }
+        }
 
-                // update bounding box
-                boundingBoxes.put(child, boundingBox);
+        void remove(Node child) {
+            final ChildAnimation animation = animations.remove(child);
+            if (animation != null && animation.slot != -1) {
+                stopAnimation(animation);
+            }
+        }
 
-                if (boundingBox != null) {
-                    if (blockX + blockWidth > minWidth) {
-                        minWidth = blockX + blockWidth;
-                    }
-                    if (blockY + blockHeight > minHeight) {
-                        minHeight = blockY + blockHeight;
-                    }
+        @Override
+        public void handle(long now) {
+            final JFXAnimationGovernor governor = JFXAnimationGovernor.getInstance();
+            if (governor.isFrameSkipped()) {
+                return;
+            }
+            final long begin = System.nanoTime();
+            final double timeScale = governor.getTimeScale();
+            final boolean applyEndValues = governor.isApplyingEndValues();
+            // iterate backward, so finished animations can be removed while iterating
+            for (int i = running.size() - 1; i >= 0; i--) {
+                final ChildAnimation animation = running.get(i);
+                if (animation.startTime == -1) {
+                    animation.startTime = now;
+                }
+                final double frac = applyEndValues ? 1
+                    : Math.min(1, (now - animation.startTime) / 1000000.0 * timeScale / DURATION);
+                final Region child = animation.child;
+                child.setLayoutX(animation.fromX + (animation.toX - animation.fromX) * frac);
+                child.setLayoutY(animation.fromY + (animation.toY - animation.fromY) * frac);
+                child.setOpacity(animation.fromOpacity + (animation.toOpacity - animation.fromOpacity) * frac);
+                if (frac >= 1) {
+                    stopAnimation(animation);
+                }
+            }
+            governor.record(System.nanoTime() - begin);
+            if (running.isEmpty()) {
+                started = false;
+                stop();
+            }
+        }
+
+        private void stopAnimation(ChildAnimation animation) {
+            final int last = running.size() - 1;
+            final ChildAnimation moved = running.get(last);
+            running.set(animation.slot, moved);
+            moved.slot = animation.slot;
+            running.remove(last);
+            animation.slot = -1;
+            animation.cacheMemento.restore();
+        }
+    }
+
+    /**
+     * updates the pref height of the pane according to the placed blocks
+     */
+    private void updatePrefHeight() {
+        double minHeight = -1;
+        for (int i = 0; i < placedBoxes.size(); i++) {
+            final BoundingBox boundingBox = placedBoxes.get(i);
+            if (boundingBox != null && !(placedChildren.get(i) instanceof GridPane)) {
+                final double blockBottom = getBlockY(boundingBox) + getBlockHeight(boundingBox);
+                if (blockBottom > minHeight) {
+                    minHeight = blockBottom;
                 }
             }
         }
@@ -244,18 +434,6 @@ public class JFXMasonryPane extends Pane {
             minHeight += snappedBottomInset();
             setPrefHeight(minHeight);
         }
-
-        if (animationMap == null) {
-            animationMap = new HashMap<>();
-        }
-
-        trans.stop();
-        ParallelTransition newTransition = new ParallelTransition();
-        newTransition.getChildren().addAll(animationMap.values());
-        newTransition.play();
-        trans = newTransition;
-        dirtyBoxes = false;
-        performingLayout = false;
     }
 
     /**
@@ -270,11 +448,11 @@ public class JFXMasonryPane extends Pane {
     }
 
     /**
-     * this method will clear the layout matrix forcing the bin packing algorithm
+     * this method will clear the layout grid forcing the bin packing algorithm
      * to recompute the children boxes on the next layout pass
      */
     public final void clearLayout() {
-        matrix = null;
+        grid = null;
     }
 
 
@@ -433,6 +611,32 @@ public class JFXMasonryPane extends Pane {
     }
 
 
+    /**
+     * when enabled, adding / removing children won't clear the layout. appended children
+     * are placed against the current grid and removing a child only reflows the children
+     * after it, instead of recomputing the boxes of all children.
+     */
+    private BooleanProperty incrementalLayout = new SimpleBooleanProperty(false) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+            requestLayout();
+        }
+    };
+
+    public final BooleanProperty incrementalLayoutProperty() {
+        return this.incrementalLayout;
+    }
+
+    public final boolean isIncrementalLayout() {
+        return this.incrementalLayoutProperty().get();
+    }
+
+    public final void setIncrementalLayout(final boolean incrementalLayout) {
+        this.incrementalLayoutProperty().set(incrementalLayout);
+    }
+
+
     /**
      * limit the grid columns to certain number
      */
@@ -507,6 +711,37 @@ public class JFXMasonryPane extends Pane {
 
         protected abstract List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY);
 
+        /**
+         * @return true if the layout mode places the blocks directly in the sparse grid,
+         * otherwise every sparse fill creates a dense matrix of the whole grid
+         */
+        boolean isSparse() {
+            return false;
+        }
+
+        /**
+         * fills the sparse grid with the children blocks, by default the children are placed
+         * using a dense matrix created from the grid {@link #fillGrid(int[][], List, double, double, int, int, double, double)}
+         * then the placed boxes are marked in the sparse grid.
+         *
+         * @return the children bounding boxes (row, column, columns count, rows count), null boxes
+         * for children that doesn't fit in the grid
+         */
+        protected List<BoundingBox> fillGrid(SparseGrid grid, List<Region> children, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            final List<BoundingBox> boxes = fillGrid(grid.toMatrix(), children,
+                cellWidth, cellHeight,
+                grid.getRows(), grid.getColumns(),
+                gutterX, gutterY);
+            if (boxes != null) {
+                for (BoundingBox box : boxes) {
+                    if (box != null) {
+                        grid.fill(box);
+                    }
+                }
+            }
+            return boxes;
+        }
+
         /**
          * returns the available box at the cell (x,y) of the grid that fits the block if existed
          *
@@ -516,20 +751,8 @@ public class JFXMasonryPane extends Pane {
          * @return
          */
         protected BoundingBox getFreeArea(int[][] matrix, int x, int y, Region block, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
-            double blockHeight = getBLockHeight(block);
-            double blockWidth = getBLockWidth(block);
-
-            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
-            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
-                rowsNeeded++;
-            }
-            int maxRow = Math.min(x + rowsNeeded, limitRow);
-
-            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
-            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
-                colsNeeded++;
-            }
-            int maxCol = Math.min(y + colsNeeded, limitCol);
+            int maxRow = Math.min(x + getRowsNeeded(block, cellHeight, gutterY), limitRow);
+            int maxCol = Math.min(y + getColumnsNeeded(block, cellWidth, gutterX), limitCol);
 
             int minRow = maxRow;
             int minCol = maxCol;
@@ -554,6 +777,51 @@ public class JFXMasonryPane extends Pane {
             return new BoundingBox(x, y, minCol - y, minRow - x);
         }
 
+        /**
+         * returns the available box at the cell (x,y) of the sparse grid that fits the block if existed
+         *
+         * @param x           row index
+         * @param y           column index
+         * @param rowsNeeded  rows needed by the block
+         * @param colsNeeded  columns needed by the block
+         * @return
+         */
+        protected BoundingBox getFreeArea(SparseGrid grid, int x, int y, int rowsNeeded, int colsNeeded) {
+            final int maxRow = Math.min(x + rowsNeeded, grid.getRows());
+            final int maxCol = Math.min(y + colsNeeded, grid.getColumns());
+
+            int minCol = maxCol;
+            for (int j = y + 1; j < maxCol; j++) {
+                if (grid.nextOccupiedRow(j, x) < maxRow) {
+                    minCol = j;
+                    break;
+                }
+            }
+            int minRow = maxRow;
+            for (int j = y; j < minCol; j++) {
+                minRow = Math.min(minRow, grid.nextOccupiedRow(j, x + 1));
+            }
+            return new BoundingBox(x, y, minCol - y, minRow - x);
+        }
+
+        protected int getRowsNeeded(Region block, double cellHeight, double gutterY) {
+            double blockHeight = getBLockHeight(block);
+            int rowsNeeded = (int) Math.ceil(blockHeight / (cellHeight + gutterY));
+            if (cellHeight * rowsNeeded + (rowsNeeded - 1) * 2 * gutterY < blockHeight) {
+                rowsNeeded++;
+            }
+            return rowsNeeded;
+        }
+
+        protected int getColumnsNeeded(Region block, double cellWidth, double gutterX) {
+            double blockWidth = getBLockWidth(block);
+            int colsNeeded = (int) Math.ceil(blockWidth / (cellWidth + gutterX));
+            if (cellWidth * colsNeeded + (colsNeeded - 1) * 2 * gutterX < blockWidth) {
+                colsNeeded++;
+            }
+            return colsNeeded;
+        }
+
         protected double getBLockWidth(Region region) {
             if (region.getMinWidth() != -1) {
                 return region.getMinWidth();
@@ -621,6 +889,190 @@ public class JFXMasonryPane extends Pane {
 
     }
 
+    /***************************************************************************
+     *                                                                         *
+     * Sparse Grid                                                             *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Sparse representation of the layout grid, each column holds its occupied rows
+     * as sorted, merged intervals. thus it uses O(columns + children) memory instead
+     * of a dense (rows x columns) matrix, and empty / filled rows can be skipped
+     * without scanning them cell by cell.
+     */
+    public static final class SparseGrid {
+        private final int rows;
+        private final int columns;
+        // occupied rows intervals [start, end) of each column
+        private final int[][] starts;
+        private final int[][] ends;
+        private final int[] counts;
+
+        public SparseGrid(int rows, int columns) {
+            this.rows = rows;
+            this.columns = columns;
+            starts = new int[columns][];
+            ends = new int[columns][];
+            counts = new int[columns];
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public boolean isOccupied(int row, int col) {
+            return nextOccupiedRow(col, row) == row;
+        }
+
+        /**
+         * @return the first occupied row in the column starting from the specified row,
+         * or the grid rows count if there is no occupied row
+         */
+        public int nextOccupiedRow(int col, int fromRow) {
+            final int index = firstEndAfter(col, fromRow);
+            return index == counts[col] ? rows : Math.max(starts[col][index], fromRow);
+        }
+
+        /**
+         * @return the row below the last occupied cell in the column (skyline of the column)
+         */
+        public int getBottom(int col) {
+            return counts[col] == 0 ? 0 : ends[col][counts[col] - 1];
+        }
+
+        /**
+         * @return the first free row in the column
+         */
+        public int getFirstFreeRow(int col) {
+            return counts[col] == 0 || starts[col][0] > 0 ? 0 : ends[col][0];
+        }
+
+        /**
+         * marks the box (row, column, columns count, rows count) as occupied
+         */
+        public void fill(BoundingBox box) {
+            final int row = (int) box.getMinX();
+            final int endRow = Math.min((int) Math.ceil(box.getMinX() + box.getHeight()), rows);
+            final int endCol = (int) Math.ceil(box.getMinY() + box.getWidth());
+            for (int col = (int) box.getMinY(); col < endCol && col < columns; col++) {
+                add(col, row, endRow);
+            }
+        }
+
+        /**
+         * marks the box (row, column, columns count, rows count) as free
+         */
+        public void clear(BoundingBox box) {
+            final int row = (int) box.getMinX();
+            final int endRow = Math.min((int) Math.ceil(box.getMinX() + box.getHeight()), rows);
+            final int endCol = (int) Math.ceil(box.getMinY() + box.getWidth());
+            for (int col = (int) box.getMinY(); col < endCol && col < columns; col++) {
+                remove(col, row, endRow);
+            }
+        }
+
+        /**
+         * @return a dense matrix of the grid, occupied cells are set to 1
+         */
+        public int[][] toMatrix() {
+            final int[][] matrix = new int[rows][columns];
+            for (int col = 0; col < columns; col++) {
+                for (int k = 0; k < counts[col]; k++) {
+                    for (int row = starts[col][k]; row < ends[col][k] && row < rows; row++) {
+                        matrix[row][col] = 1;
+                    }
+                }
+            }
+            return matrix;
+        }
+
+        /**
+         * @return the index of the first interval that ends after the specified row
+         */
+        private int firstEndAfter(int col, int row) {
+            int low = 0;
+            int high = counts[col];
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (ends[col][mid] <= row) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void add(int col, int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            // merge all overlapping / adjacent intervals
+            final int from = firstEndAfter(col, start - 1);
+            int to = from;
+            int newStart = start;
+            int newEnd = end;
+            while (to < counts[col] && starts[col][to] <= end) {
+                newStart = Math.min(newStart, starts[col][to]);
+                newEnd = Math.max(newEnd, ends[col][to]);
+                to++;
+            }
+            replace(col, from, to, 1);
+            starts[col][from] = newStart;
+            ends[col][from] = newEnd;
+        }
+
+        private void remove(int col, int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            final int from = firstEndAfter(col, start);
+            if (from == counts[col] || starts[col][from] >= end) {
+                return;
+            }
+            int to = from;
+            while (to < counts[col] && starts[col][to] < end) {
+                to++;
+            }
+            // keep the parts outside of the removed interval
+            final int leftStart = starts[col][from];
+            final int rightEnd = ends[col][to - 1];
+            final boolean left = leftStart < start;
+            final boolean right = rightEnd > end;
+            replace(col, from, to, (left ? 1 : 0) + (right ? 1 : 0));
+            int index = from;
+            if (left) {
+                starts[col][index] = leftStart;
+                ends[col][index++] = start;
+            }
+            if (right) {
+                starts[col][index] = end;
+                ends[col][index] = rightEnd;
+            }
+        }
+
+        /**
+         * replaces the intervals [from, to) of the column with the specified count of intervals
+         */
+        private void replace(int col, int from, int to, int count) {
+            final int oldCount = counts[col];
+            final int newCount = oldCount - (to - from) + count;
+            if (starts[col] == null || newCount > starts[col].length) {
+                final int capacity = Math.max(4, Math.max(newCount, oldCount * 2));
+                starts[col] = starts[col] == null ? new int[capacity] : Arrays.copyOf(starts[col], capacity);
+                ends[col] = ends[col] == null ? new int[capacity] : Arrays.copyOf(ends[col], capacity);
+            }
+            System.arraycopy(starts[col], to, starts[col], from + count, oldCount - to);
+            System.arraycopy(ends[col], to, ends[col], from + count, oldCount - to);
+            counts[col] = newCount;
+        }
+    }
+
     /***************************************************************************
      *                                                                         *
      * Masonry Layout                                                          *
@@ -628,6 +1080,51 @@ public class JFXMasonryPane extends Pane {
      **************************************************************************/
 
     private static class MasonryLayout extends LayoutMode {
+        @Override
+        boolean isSparse() {
+            return true;
+        }
+
+        @Override
+        protected List<BoundingBox> fillGrid(SparseGrid grid, List<Region> children, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            int row = grid.getRows();
+            if (row <= 0) {
+                return null;
+            }
+            int col = grid.getColumns();
+            List<BoundingBox> boxes = new ArrayList<>(children.size());
+
+            for (int b = 0; b < children.size(); b++) {
+                Region block = children.get(b);
+                int rowsNeeded = getRowsNeeded(block, cellHeight, gutterY);
+                int colsNeeded = getColumnsNeeded(block, cellWidth, gutterX);
+                // rows above the lowest column bottom have no valid cells
+                int startRow = row;
+                for (int j = 0; j < col; j++) {
+                    startRow = Math.min(startRow, grid.getBottom(j));
+                }
+                BoundingBox placedBox = null;
+                for (int i = startRow; i < row && placedBox == null; i++) {
+                    for (int j = 0; j < col; j++) {
+                        // masonry condition, the cell is below all occupied cells of the column
+                        if (grid.getBottom(j) > i) {
+                            continue;
+                        }
+                        BoundingBox box = getFreeArea(grid, i, j, rowsNeeded, colsNeeded);
+                        if (!validWidth(box, block, cellWidth, gutterX, gutterY)
+                            || !validHeight(box, block, cellHeight, gutterX, gutterY)) {
+                            continue;
+                        }
+                        grid.fill(box);
+                        placedBox = box;
+                        break;
+                    }
+                }
+                boxes.add(placedBox);
+            }
+            return boxes;
+        }
+
         @Override
         public List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
             int row = matrix.length;
@@ -692,6 +1189,53 @@ public class JFXMasonryPane extends Pane {
      *                                                                         *
      **************************************************************************/
     private static class BinPackingLayout extends LayoutMode {
+        @Override
+        boolean isSparse() {
+            return true;
+        }
+
+        @Override
+        protected List<BoundingBox> fillGrid(SparseGrid grid, List<Region> children, double cellWidth, double cellHeight, double gutterX, double gutterY) {
+            int row = grid.getRows();
+            if (row <= 0) {
+                return null;
+            }
+            int col = grid.getColumns();
+            List<BoundingBox> boxes = new ArrayList<>(children.size());
+
+            for (int b = 0; b < children.size(); b++) {
+                Region block = children.get(b);
+                int rowsNeeded = getRowsNeeded(block, cellHeight, gutterY);
+                int colsNeeded = getColumnsNeeded(block, cellWidth, gutterX);
+                // skip the filled rows
+                int startRow = row;
+                for (int j = 0; j < col; j++) {
+                    startRow = Math.min(startRow, grid.getFirstFreeRow(j));
+                }
+                BoundingBox placedBox = null;
+                for (int i = startRow; i < row && placedBox == null; i++) {
+                    for (int j = 0; j < col; j++) {
+                        if (grid.isOccupied(i, j)) {
+                            continue;
+                        }
+                        BoundingBox box = getFreeArea(grid, i, j, rowsNeeded, colsNeeded);
+                        if (!validWidth(box, block, cellWidth, gutterX, gutterY) || !validHeight(box,
+                            block,
+                            cellHeight,
+                            gutterX,
+                            gutterY)) {
+                            continue;
+                        }
+                        grid.fill(box);
+                        placedBox = box;
+                        break;
+                    }
+                }
+                boxes.add(placedBox);
+            }
+            return boxes;
+        }
+
         @Override
         public List<BoundingBox> fillGrid(int[][] matrix, List<Region> children, double cellWidth, double cellHeight, int limitRow, int limitCol, double gutterX, double gutterY) {
             int row = matrix.length;
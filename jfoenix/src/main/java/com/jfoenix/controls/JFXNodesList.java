@@ -19,6 +19,7 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.*;
 import javafx.animation.Animation.Status;
 import javafx.collections.ObservableList;
@@ -312,6 +313,10 @@ public class JFXNodesList extends VBox {
         animateTimeline.getKeyFrames().clear();
         createAnimation(expanded, animateTimeline);
         animateTimeline.play();
+        // in reduced motion mode the nodes jump to their end state
+        if (JFXReducedMotion.isReducedMotion(this)) {
+            animateTimeline.jumpTo(animateTimeline.getTotalDuration());
+        }
     }
 
     public void animateList(boolean expand){
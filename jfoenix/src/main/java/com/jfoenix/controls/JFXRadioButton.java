@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.skins.JFXRadioButtonSkin;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.css.converters.ColorConverter;
@@ -39,7 +40,7 @@ import java.util.List;
  * @version 1.0
  * @since 2016-03-09
  */
-public class JFXRadioButton extends RadioButton {
+public class JFXRadioButton extends RadioButton implements IFXStaticControl {
 
     /**
      * {@inheritDoc}
@@ -19,7 +19,9 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.converters.RipplerMaskTypeConverter;
+import com.jfoenix.transitions.JFXReducedMotion;
 import com.jfoenix.utils.JFXNodeUtils;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.css.converters.PaintConverter;
@@ -36,6 +38,7 @@ import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Background;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
@@ -64,7 +67,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @since 2016-03-09
  */
 @DefaultProperty(value = "control")
-public class JFXRippler extends StackPane {
+public class JFXRippler extends StackPane implements IFXStaticControl {
     public enum RipplerPos {
         FRONT, BACK
     }
@@ -78,6 +81,11 @@ public class JFXRippler extends StackPane {
     protected Node control;
 
     protected static final double RIPPLE_MAX_RADIUS = 300;
+    /**
+     * the maximum number of ripples shown at the same time, once reached
+     * the oldest ripple is recycled to show the new one
+     */
+    protected static final int RIPPLE_MAX_COUNT = 5;
 
     private boolean enabled = true;
     private boolean forceOverlay = false;
@@ -212,42 +220,87 @@ public class JFXRippler extends StackPane {
         double diffMinY = Math.abs(control.getBoundsInLocal().getMinY() - control.getLayoutBounds().getMinY());
         double diffMaxX = Math.abs(control.getBoundsInLocal().getMaxX() - control.getLayoutBounds().getMaxX());
         double diffMaxY = Math.abs(control.getBoundsInLocal().getMaxY() - control.getLayoutBounds().getMaxY());
+        // the previous mask of the clipped node is updated in place if it has the same type
+        final Node cachedMask = reusableMask;
         Node mask;
         switch (getMaskType()) {
-            case RECT:
-                mask = new Rectangle(bounds.getMinX() + diffMinX - snappedLeftInset(),
-                    bounds.getMinY() + diffMinY - snappedTopInset(),
-                    width - 2 * borderWidth,
-                    height - 2 * borderWidth); // -0.1 to prevent resizing the anchor pane
-                break;
             case CIRCLE:
                 double radius = Math.min((width / 2) - 2 * borderWidth, (height / 2) - 2 * borderWidth);
-                mask = new Circle((bounds.getMinX() + diffMinX + bounds.getMaxX() - diffMaxX) / 2 - snappedLeftInset(),
-                    (bounds.getMinY() + diffMinY + bounds.getMaxY() - diffMaxY) / 2 - snappedTopInset(),
-                    radius,
-                    Color.BLUE);
+                Circle circle = cachedMask instanceof Circle ? (Circle) cachedMask : new Circle(0, 0, 0, Color.BLUE);
+                circle.setCenterX((bounds.getMinX() + diffMinX + bounds.getMaxX() - diffMaxX) / 2 - snappedLeftInset());
+                circle.setCenterY((bounds.getMinY() + diffMinY + bounds.getMaxY() - diffMaxY) / 2 - snappedTopInset());
+                circle.setRadius(radius);
+                mask = circle;
                 break;
             case FIT:
-                mask = new Region();
+                Region region = cachedMask != null && cachedMask.getClass() == Region.class ? (Region) cachedMask : new Region();
                 if (control instanceof Shape) {
-                    ((Region) mask).setShape((Shape) control);
+                    region.setShape((Shape) control);
                 } else if (control instanceof Region) {
-                    ((Region) mask).setShape(((Region) control).getShape());
-                    JFXNodeUtils.updateBackground(((Region) control).getBackground(), (Region) mask);
+                    region.setShape(((Region) control).getShape());
+                    updateMaskBackground(((Region) control).getBackground(), region);
                 }
-                mask.resize(width, height);
-                mask.relocate(bounds.getMinX() + diffMinX, bounds.getMinY() + diffMinY);
+                region.resize(width, height);
+                region.relocate(bounds.getMinX() + diffMinX, bounds.getMinY() + diffMinY);
+                mask = region;
                 break;
+            case RECT:
             default:
-                mask = new Rectangle(bounds.getMinX() + diffMinX - snappedLeftInset(),
-                    bounds.getMinY() + diffMinY - snappedTopInset(),
-                    width - 2 * borderWidth,
-                    height - 2 * borderWidth); // -0.1 to prevent resizing the anchor pane
+                Rectangle rect = cachedMask instanceof Rectangle ? (Rectangle) cachedMask : new Rectangle();
+                rect.setX(bounds.getMinX() + diffMinX - snappedLeftInset());
+                rect.setY(bounds.getMinY() + diffMinY - snappedTopInset());
+                rect.setWidth(width - 2 * borderWidth);
+                rect.setHeight(height - 2 * borderWidth); // -0.1 to prevent resizing the anchor pane
+                mask = rect;
                 break;
         }
         return mask;
     }
 
+    private static final Object MASK_BACKGROUND_KEY = new Object();
+
+    /**
+     * copies the background to the mask region, only if it was changed since the last copy
+     *
+     * @param background the background of the control
+     * @param mask       the mask region
+     */
+    protected static void updateMaskBackground(Background background, Region mask) {
+        if (mask.getProperties().get(MASK_BACKGROUND_KEY) != background) {
+            mask.getProperties().put(MASK_BACKGROUND_KEY, background);
+            JFXNodeUtils.updateBackground(background, mask);
+        }
+    }
+
+    /**
+     * the current clip of the node being clipped, it's passed to the default
+     * {@link #getMask()} implementation to be reused instead of creating a new mask
+     */
+    private Node reusableMask;
+
+    /**
+     * @return the current mask of the clipped node while {@link #getMask()} is called, so
+     * {@link #getMask()} implementations can update it in place instead of creating a new mask
+     */
+    protected final Node getReusableMask() {
+        return reusableMask;
+    }
+
+    /**
+     * updates the clip of the specified node, the default mask is updated in place
+     */
+    private void updateClip(Node node) {
+        reusableMask = node.getClip();
+        try {
+            final Node mask = getMask();
+            if (node.getClip() != mask) {
+                node.setClip(mask);
+            }
+        } finally {
+            reusableMask = null;
+        }
+    }
+
     /**
      * compute the ripple radius
      *
@@ -345,21 +398,15 @@ public class JFXRippler extends StackPane {
      */
     @Deprecated
     public void showOverlay() {
-        if (rippler.overlayRect != null) {
-            rippler.overlayRect.outAnimation.stop();
-        }
         rippler.createOverlay();
-        rippler.overlayRect.inAnimation.play();
+        rippler.overlayRect.show();
     }
 
     @Deprecated
     public void hideOverlay() {
         if (!forceOverlay) {
             if (rippler.overlayRect != null) {
-                rippler.overlayRect.inAnimation.stop();
-            }
-            if (rippler.overlayRect != null) {
-                rippler.overlayRect.outAnimation.play();
+                rippler.overlayRect.hide(null);
             }
         } else {
             System.err.println("Ripple Overlay is forced!");
@@ -379,7 +426,12 @@ public class JFXRippler extends StackPane {
         private AtomicBoolean generating = new AtomicBoolean(false);
         private boolean cacheRipplerClip = false;
         private boolean resetClip = false;
-        private Queue<Ripple> ripplesQueue = new LinkedList<Ripple>();
+        // pressed ripples waiting to be released
+        private Queue<Ripple> ripplesQueue = new ArrayDeque<>();
+        // shown ripples ordered by creation time
+        private Deque<Ripple> activeRipples = new ArrayDeque<>();
+        // finished ripples, reused by the next press
+        private Deque<Ripple> ripplesPool = new ArrayDeque<>();
 
         RippleGenerator() {
             // improve in performance, by preventing
@@ -394,39 +446,71 @@ public class JFXRippler extends StackPane {
                 if (!generating.getAndSet(true)) {
                     // create overlay once then change its color later
                     createOverlay();
-                    if (this.getClip() == null || (getChildren().size() == 1 && !cacheRipplerClip) || resetClip) {
-                        this.setClip(getMask());
+                    if (this.getClip() == null || (activeRipples.isEmpty() && !cacheRipplerClip) || resetClip) {
+                        updateClip(this);
                     }
                     this.resetClip = false;
 
+                    if (JFXReducedMotion.isReducedMotion(JFXRippler.this)) {
+                        // only show the overlay, it's hidden when releasing the ripple
+                        overlayRect.show();
+                        return;
+                    }
+
                     // create the ripple effect
-                    final Ripple ripple = new Ripple(generatorCenterX, generatorCenterY);
-                    getChildren().add(ripple);
+                    final Ripple ripple = obtainRipple();
+                    ripple.show(generatorCenterX, generatorCenterY);
+                    activeRipples.add(ripple);
                     ripplesQueue.add(ripple);
 
                     // animate the ripple
-                    overlayRect.outAnimation.stop();
-                    overlayRect.inAnimation.play();
-                    ripple.inAnimation.play();
+                    overlayRect.show();
+                    ripple.playIn();
+                }
+            }
+        }
+
+        /**
+         * @return a pooled ripple, the oldest shown ripple if the ripples limit is
+         * reached or a new ripple otherwise
+         */
+        private Ripple obtainRipple() {
+            Ripple ripple;
+            if (activeRipples.size() >= RIPPLE_MAX_COUNT) {
+                ripple = activeRipples.poll();
+                ripplesQueue.remove(ripple);
+                ripple.stopAnimations();
+            } else {
+                ripple = ripplesPool.poll();
+                if (ripple == null) {
+                    ripple = new Ripple();
                 }
             }
+            if (ripple.getParent() != this) {
+                getChildren().add(ripple);
+            }
+            return ripple;
+        }
+
+        private void recycleRipple(Ripple ripple) {
+            if (activeRipples.remove(ripple)) {
+                ripple.setVisible(false);
+                ripplesPool.push(ripple);
+            }
         }
 
         private void releaseRipple() {
             Ripple ripple = ripplesQueue.poll();
             if (ripple != null) {
-                ripple.inAnimation.stop();
-                ripple.outAnimation = new Timeline(
-                    new KeyFrame(Duration.millis(Math.min(800, (0.9 * 500) / ripple.getScaleX()))
-                        , ripple.outKeyValues));
-                ripple.outAnimation.setOnFinished((event) -> getChildren().remove(ripple));
-                ripple.outAnimation.play();
-                if (generating.getAndSet(false)) {
-                    if (overlayRect != null) {
-                        overlayRect.inAnimation.stop();
-                        if (!forceOverlay) {
-                            overlayRect.outAnimation.play();
-                        }
+                ripple.playOut();
+            }
+            // no ripple is created in reduced motion mode
+            if (generating.getAndSet(false)) {
+                if (overlayRect != null) {
+                    if (!forceOverlay) {
+                        overlayRect.hide(null);
+                    } else {
+                        overlayRect.stopAnimations();
                     }
                 }
             }
@@ -438,9 +522,15 @@ public class JFXRippler extends StackPane {
 
 
         void createOverlay() {
+            if (overlayRect != null && overlayRect.dirty) {
+                // the control bounds were changed while the overlay was hidden
+                overlayRect.updateBounds();
+                updateClip(overlayRect);
+                overlayRect.dirty = false;
+            }
             if (overlayRect == null) {
                 overlayRect = new OverLayRipple();
-                overlayRect.setClip(getMask());
+                updateClip(overlayRect);
                 getChildren().add(0, overlayRect);
                 overlayRect.fillProperty().bind(Bindings.createObjectBinding(() -> {
                     if (ripplerFill.get() instanceof Color) {
@@ -464,18 +554,29 @@ public class JFXRippler extends StackPane {
         }
 
         private final class OverLayRipple extends Rectangle {
-            // Overlay ripple animations
-            Animation inAnimation = new Timeline(new KeyFrame(Duration.millis(300),
-                new KeyValue(opacityProperty(), 1, Interpolator.EASE_IN)));
+            // Overlay ripple animations, created when needed
+            private Animation inAnimation;
+            private Animation outAnimation;
 
-            Animation outAnimation = new Timeline(new KeyFrame(Duration.millis(300),
-                new KeyValue(opacityProperty(), 0, Interpolator.EASE_OUT)));
+            private final RippleAnimationEngine.Handle engineHandle = new RippleAnimationEngine.Handle(this);
+            // indicates that the bounds / clip must be updated before showing the overlay
+            private boolean dirty = false;
 
             OverLayRipple() {
                 super();
-                setOverLayBounds(this);
                 this.getStyleClass().add("jfx-rippler-overlay");
-                // update initial position
+                updateBounds();
+                // set initial attributes
+                setOpacity(0);
+                setCache(true);
+                setCacheHint(CacheHint.SPEED);
+                setCacheShape(true);
+                setManaged(false);
+            }
+
+            void updateBounds() {
+                setOverLayBounds(this);
+                // update position
                 if (JFXRippler.this.getChildrenUnmodifiable().contains(control)) {
                     double diffMinX = Math.abs(control.getBoundsInLocal().getMinX() - control.getLayoutBounds().getMinX());
                     double diffMinY = Math.abs(control.getBoundsInLocal().getMinY() - control.getLayoutBounds().getMinY());
@@ -483,89 +584,239 @@ public class JFXRippler extends StackPane {
                     this.setX(bounds.getMinX() + diffMinX - snappedLeftInset());
                     this.setY(bounds.getMinY() + diffMinY - snappedTopInset());
                 }
-                // set initial attributes
-                setOpacity(0);
-                setCache(true);
-                setCacheHint(CacheHint.SPEED);
-                setCacheShape(true);
-                setManaged(false);
+            }
+
+            /**
+             * @return true if the overlay is hidden and not animating
+             */
+            boolean isIdle() {
+                return getOpacity() == 0
+                       && (inAnimation == null || inAnimation.getStatus() == Animation.Status.STOPPED)
+                       && (outAnimation == null || outAnimation.getStatus() == Animation.Status.STOPPED)
+                       && !engineHandle.isRunning();
+            }
+
+            void show() {
+                if (JFXReducedMotion.isReducedMotion(JFXRippler.this)) {
+                    stopAnimations();
+                    setOpacity(1);
+                } else if (isRipplerSharedAnimation()) {
+                    stopAnimations();
+                    RippleAnimationEngine.getInstance().animate(engineHandle, 300, Interpolator.EASE_IN,
+                        RippleAnimationEngine.OPACITY, 0, 0, 0, 1, null);
+                } else {
+                    if (outAnimation != null) {
+                        outAnimation.stop();
+                    }
+                    RippleAnimationEngine.getInstance().stop(engineHandle);
+                    if (inAnimation == null) {
+                        inAnimation = new Timeline(new KeyFrame(Duration.millis(300),
+                            new KeyValue(opacityProperty(), 1, Interpolator.EASE_IN)));
+                    }
+                    inAnimation.play();
+                }
+            }
+
+            /**
+             * fades out the overlay
+             *
+             * @param onHidden called when the overlay is hidden, can be null
+             */
+            void hide(Runnable onHidden) {
+                if (JFXReducedMotion.isReducedMotion(JFXRippler.this)) {
+                    stopAnimations();
+                    setOpacity(0);
+                    if (onHidden != null) {
+                        onHidden.run();
+                    }
+                } else if (isRipplerSharedAnimation()) {
+                    stopAnimations();
+                    RippleAnimationEngine.getInstance().animate(engineHandle, 300, Interpolator.EASE_OUT,
+                        RippleAnimationEngine.OPACITY, 0, 0, 0, 0, onHidden);
+                } else {
+                    if (inAnimation != null) {
+                        inAnimation.stop();
+                    }
+                    RippleAnimationEngine.getInstance().stop(engineHandle);
+                    if (outAnimation == null) {
+                        outAnimation = new Timeline(new KeyFrame(Duration.millis(300),
+                            new KeyValue(opacityProperty(), 0, Interpolator.EASE_OUT)));
+                    }
+                    if (onHidden != null) {
+                        outAnimation.setOnFinished((finish) -> onHidden.run());
+                    }
+                    outAnimation.play();
+                }
+            }
+
+            void stopAnimations() {
+                if (inAnimation != null) {
+                    inAnimation.stop();
+                }
+                if (outAnimation != null) {
+                    outAnimation.stop();
+                }
+                RippleAnimationEngine.getInstance().stop(engineHandle);
             }
         }
 
         private final class Ripple extends Circle {
 
-            KeyValue[] outKeyValues;
-            Animation outAnimation = null;
-            Animation inAnimation = null;
+            final RippleTransition inAnimation = new RippleTransition(this, Duration.millis(900));
+            final RippleTransition outAnimation = new RippleTransition(this, Duration.millis(800));
+
+            private final RippleAnimationEngine.Handle engineHandle = new RippleAnimationEngine.Handle(this);
+            private final Runnable recycle = () -> recycleRipple(this);
+            private double targetTranslateX;
+            private double targetTranslateY;
+
+            // ripple fill derived from the rippler fill
+            private Paint fill;
+            private Paint sourceFill;
 
-            private Ripple(double centerX, double centerY) {
-                super(centerX,
-                    centerY,
-                    ripplerRadius.get().doubleValue() == Region.USE_COMPUTED_SIZE ?
-                        computeRippleRadius() : ripplerRadius.get().doubleValue(), null);
+            private Ripple() {
                 setCache(true);
                 setCacheHint(CacheHint.SPEED);
                 setCacheShape(true);
                 setManaged(false);
                 setSmooth(true);
+                outAnimation.setOnFinished((event) -> recycle.run());
+            }
 
-                KeyValue[] inKeyValues = new KeyValue[isRipplerRecenter() ? 4 : 2];
-                outKeyValues = new KeyValue[isRipplerRecenter() ? 5 : 3];
-
-                inKeyValues[0] = new KeyValue(scaleXProperty(), 0.9, rippleInterpolator);
-                inKeyValues[1] = new KeyValue(scaleYProperty(), 0.9, rippleInterpolator);
-
-                outKeyValues[0] = new KeyValue(this.scaleXProperty(), 1, rippleInterpolator);
-                outKeyValues[1] = new KeyValue(this.scaleYProperty(), 1, rippleInterpolator);
-                outKeyValues[2] = new KeyValue(this.opacityProperty(), 0, rippleInterpolator);
+            /**
+             * re-targets the ripple animations to the specified center
+             */
+            private void show(double centerX, double centerY) {
+                setCenterX(centerX);
+                setCenterY(centerY);
+                setRadius(ripplerRadius.get().doubleValue() == Region.USE_COMPUTED_SIZE ?
+                    computeRippleRadius() : ripplerRadius.get().doubleValue());
+                updateFill();
+                setScaleX(0);
+                setScaleY(0);
+                setTranslateX(0);
+                setTranslateY(0);
+                setOpacity(1);
+                setVisible(true);
 
+                double translateX = 0;
+                double translateY = 0;
                 if (isRipplerRecenter()) {
                     double dx = (control.getLayoutBounds().getWidth() / 2 - centerX) / 1.55;
                     double dy = (control.getLayoutBounds().getHeight() / 2 - centerY) / 1.55;
-                    inKeyValues[2] = outKeyValues[3] = new KeyValue(translateXProperty(),
-                        Math.signum(dx) * Math.min(Math.abs(dx),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
-                    inKeyValues[3] = outKeyValues[4] = new KeyValue(translateYProperty(),
-                        Math.signum(dy) * Math.min(Math.abs(dy),
-                            this.getRadius() / 2),
-                        rippleInterpolator);
+                    translateX = Math.signum(dx) * Math.min(Math.abs(dx), this.getRadius() / 2);
+                    translateY = Math.signum(dy) * Math.min(Math.abs(dy), this.getRadius() / 2);
                 }
-                inAnimation = new Timeline(new KeyFrame(Duration.ZERO,
-                    new KeyValue(scaleXProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(scaleYProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(translateXProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(translateYProperty(),
-                        0,
-                        rippleInterpolator),
-                    new KeyValue(opacityProperty(),
-                        1,
-                        rippleInterpolator)
-                ), new KeyFrame(Duration.millis(900), inKeyValues));
+                targetTranslateX = translateX;
+                targetTranslateY = translateY;
+                inAnimation.setTarget(0.9, translateX, translateY, 1);
+                outAnimation.setTarget(1, translateX, translateY, 0);
+            }
 
-                setScaleX(0);
-                setScaleY(0);
-                if (ripplerFill.get() instanceof Color) {
-                    Color circleColor = new Color(((Color) ripplerFill.get()).getRed(),
-                        ((Color) ripplerFill.get()).getGreen(),
-                        ((Color) ripplerFill.get()).getBlue(),
-                        0.3);
-                    setStroke(circleColor);
-                    setFill(circleColor);
+            private void playIn() {
+                if (isRipplerSharedAnimation()) {
+                    RippleAnimationEngine.getInstance().animate(engineHandle, 900, rippleInterpolator,
+                        RippleAnimationEngine.SCALE | RippleAnimationEngine.TRANSLATE | RippleAnimationEngine.OPACITY,
+                        0.9, targetTranslateX, targetTranslateY, 1, null);
+                } else {
+                    inAnimation.start();
+                }
+            }
+
+            /**
+             * fades out the ripple from its current state
+             */
+            private void playOut() {
+                stopAnimations();
+                double duration = Math.min(800, (0.9 * 500) / getScaleX());
+                if (isRipplerSharedAnimation()) {
+                    RippleAnimationEngine.getInstance().animate(engineHandle, duration, rippleInterpolator,
+                        RippleAnimationEngine.SCALE | RippleAnimationEngine.TRANSLATE | RippleAnimationEngine.OPACITY,
+                        1, targetTranslateX, targetTranslateY, 0, recycle);
                 } else {
-                    setStroke(ripplerFill.get());
-                    setFill(ripplerFill.get());
+                    // the fade out duration is applied as a rate to avoid creating new durations
+                    outAnimation.setRate(duration > 0 ? 800 / duration : 1);
+                    outAnimation.start();
+                }
+            }
+
+            private void stopAnimations() {
+                inAnimation.stop();
+                outAnimation.stop();
+                RippleAnimationEngine.getInstance().stop(engineHandle);
+            }
+
+            private void updateFill() {
+                final Paint paint = ripplerFill.get();
+                if (fill == null || sourceFill != paint) {
+                    sourceFill = paint;
+                    if (paint instanceof Color) {
+                        fill = new Color(((Color) paint).getRed(),
+                            ((Color) paint).getGreen(),
+                            ((Color) paint).getBlue(),
+                            0.3);
+                    } else {
+                        fill = paint;
+                    }
+                    setStroke(fill);
+                    setFill(fill);
                 }
             }
         }
 
+        /**
+         * reusable ripple animation, it interpolates the ripple from its state when
+         * the animation starts to the target values, thus it can be re-targeted
+         * without creating new key frames
+         */
+        private final class RippleTransition extends Transition {
+            private final Ripple ripple;
+            private double fromScale, fromTranslateX, fromTranslateY, fromOpacity;
+            private double toScale, toTranslateX, toTranslateY, toOpacity;
+
+            private RippleTransition(Ripple ripple, Duration duration) {
+                this.ripple = ripple;
+                setCycleDuration(duration);
+                setInterpolator(rippleInterpolator);
+            }
+
+            private void setTarget(double scale, double translateX, double translateY, double opacity) {
+                this.toScale = scale;
+                this.toTranslateX = translateX;
+                this.toTranslateY = translateY;
+                this.toOpacity = opacity;
+            }
+
+            /**
+             * plays the animation from the current state of the ripple
+             */
+            private void start() {
+                fromScale = ripple.getScaleX();
+                fromTranslateX = ripple.getTranslateX();
+                fromTranslateY = ripple.getTranslateY();
+                fromOpacity = ripple.getOpacity();
+                playFromStart();
+            }
+
+            @Override
+            protected void interpolate(double frac) {
+                final double scale = fromScale + (toScale - fromScale) * frac;
+                ripple.setScaleX(scale);
+                ripple.setScaleY(scale);
+                ripple.setTranslateX(fromTranslateX + (toTranslateX - fromTranslateX) * frac);
+                ripple.setTranslateY(fromTranslateY + (toTranslateY - fromTranslateY) * frac);
+                ripple.setOpacity(fromOpacity + (toOpacity - fromOpacity) * frac);
+            }
+        }
+
         public void clear() {
+            for (Ripple ripple : activeRipples) {
+                ripple.stopAnimations();
+                ripple.setVisible(false);
+                ripplesPool.push(ripple);
+            }
+            activeRipples.clear();
+            ripplesQueue.clear();
             getChildren().clear();
             rippler.overlayRect = null;
             generating.set(false);
@@ -573,11 +824,12 @@ public class JFXRippler extends StackPane {
     }
 
     private void resetOverLay() {
-        if (rippler.overlayRect != null) {
-            rippler.overlayRect.inAnimation.stop();
+        if (rippler.overlayRect != null && rippler.overlayRect.isIdle()) {
+            // hidden overlay is updated lazily when it's about to be shown
+            rippler.overlayRect.dirty = true;
+        } else if (rippler.overlayRect != null) {
             final RippleGenerator.OverLayRipple oldOverlay = rippler.overlayRect;
-            rippler.overlayRect.outAnimation.setOnFinished((finish) -> rippler.getChildren().remove(oldOverlay));
-            rippler.overlayRect.outAnimation.play();
+            rippler.overlayRect.hide(() -> rippler.getChildren().remove(oldOverlay));
             rippler.overlayRect = null;
         }
     }
@@ -720,6 +972,55 @@ public class JFXRippler extends StackPane {
     }
 
 
+    /**
+     * the ripple shared animation, by default it's false.
+     * if true the ripple / overlay animations are advanced by a single animation timer
+     * shared by all ripplers, instead of a timeline per animation
+     */
+    private StyleableBooleanProperty ripplerSharedAnimation = new SimpleStyleableBooleanProperty(
+        StyleableProperties.RIPPLER_SHARED_ANIMATION,
+        JFXRippler.this,
+        "ripplerSharedAnimation",
+        false);
+
+    public Boolean isRipplerSharedAnimation() {
+        return ripplerSharedAnimation == null ? false : ripplerSharedAnimation.get();
+    }
+
+    public StyleableBooleanProperty ripplerSharedAnimationProperty() {
+        return this.ripplerSharedAnimation;
+    }
+
+    public void setRipplerSharedAnimation(Boolean sharedAnimation) {
+        this.ripplerSharedAnimation.set(sharedAnimation);
+    }
+
+    /**
+     * disable the ripple / overlay animations, if true the overlay is shown without
+     * animation and no ripples are created. when set (in code or css) it overrides
+     * the reduced motion mode of {@link JFXReducedMotion}
+     */
+    private StyleableBooleanProperty disableAnimation = new SimpleStyleableBooleanProperty(
+        StyleableProperties.DISABLE_ANIMATION,
+        JFXRippler.this,
+        "disableAnimation",
+        false);
+
+    @Override
+    public Boolean isDisableAnimation() {
+        return disableAnimation != null && disableAnimation.get();
+    }
+
+    @Override
+    public StyleableBooleanProperty disableAnimationProperty() {
+        return this.disableAnimation;
+    }
+
+    @Override
+    public void setDisableAnimation(Boolean disabled) {
+        this.disableAnimation.set(disabled);
+    }
+
     /**
      * indicates whether the ripple effect is infront of or behind the node
      */
@@ -765,6 +1066,32 @@ public class JFXRippler extends StackPane {
                     return control.ripplerDisabledProperty();
                 }
             };
+        private static final CssMetaData<JFXRippler, Boolean> RIPPLER_SHARED_ANIMATION =
+            new CssMetaData<JFXRippler, Boolean>("-jfx-rippler-shared-animation",
+                BooleanConverter.getInstance(), false) {
+                @Override
+                public boolean isSettable(JFXRippler control) {
+                    return control.ripplerSharedAnimation == null || !control.ripplerSharedAnimation.isBound();
+                }
+
+                @Override
+                public StyleableProperty<Boolean> getStyleableProperty(JFXRippler control) {
+                    return control.ripplerSharedAnimationProperty();
+                }
+            };
+        private static final CssMetaData<JFXRippler, Boolean> DISABLE_ANIMATION =
+            new CssMetaData<JFXRippler, Boolean>("-jfx-disable-animation",
+                BooleanConverter.getInstance(), false) {
+                @Override
+                public boolean isSettable(JFXRippler control) {
+                    return control.disableAnimation == null || !control.disableAnimation.isBound();
+                }
+
+                @Override
+                public StyleableProperty<Boolean> getStyleableProperty(JFXRippler control) {
+                    return control.disableAnimationProperty();
+                }
+            };
         private static final CssMetaData<JFXRippler, Paint> RIPPLER_FILL =
             new CssMetaData<JFXRippler, Paint>("-jfx-rippler-fill",
                 PaintConverter.getInstance(), Color.rgb(0, 200, 255)) {
@@ -815,7 +1142,9 @@ public class JFXRippler extends StackPane {
                 RIPPLER_RADIUS,
                 RIPPLER_FILL,
                 MASK_TYPE,
-                RIPPLER_DISABLED
+                RIPPLER_DISABLED,
+                RIPPLER_SHARED_ANIMATION,
+                DISABLE_ANIMATION
             );
             STYLEABLES = Collections.unmodifiableList(styleables);
         }
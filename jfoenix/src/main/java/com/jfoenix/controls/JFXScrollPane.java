@@ -19,6 +19,7 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -236,7 +237,8 @@ public class JFXScrollPane extends StackPane {
         Timeline timeline = new Timeline();
         final EventHandler<MouseEvent> dragHandler = event -> timeline.stop();
         final EventHandler<ScrollEvent> scrollHandler = event -> {
-            if (event.getEventType() == ScrollEvent.SCROLL) {
+            // in reduced motion mode keep the default (non smooth) scrolling
+            if (event.getEventType() == ScrollEvent.SCROLL && !JFXReducedMotion.isReducedMotion(scrollPane)) {
                 int direction = event.getDeltaY() > 0 ? -1 : 1;
                 for (int i = 0; i < pushes.length; i++) {
                     derivatives[i] += direction * pushes[i];
@@ -19,6 +19,7 @@
 
 package com.jfoenix.controls;
 
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -210,12 +211,23 @@ public class JFXSnackbar extends Group {
 
     private void show(SnackbarEvent event) {
         content.getChildren().setAll(event.getContent());
-        openAnimation = getTimeline(event.getTimeout());
+        final boolean reducedMotion = JFXReducedMotion.isReducedMotion(this);
+        openAnimation = reducedMotion ? null : getTimeline(event.getTimeout());
         if (event.getPseudoClass() != null) {
             activePseudoClass = event.getPseudoClass();
             content.pseudoClassStateChanged(activePseudoClass, true);
         }
-        openAnimation.play();
+        if (reducedMotion) {
+            // show the snackbar without animation
+            toFront();
+            setVisible(true);
+            setOpacity(1);
+            setTranslateY(0);
+            pauseTransition = Duration.INDEFINITE.equals(event.getTimeout()) ? null : new PauseTransition(event.getTimeout());
+            playPauseTransition();
+        } else {
+            openAnimation.play();
+        }
     }
 
     private Timeline openAnimation = null;
@@ -243,21 +255,23 @@ public class JFXSnackbar extends Group {
         animation.setCycleCount(1);
         pauseTransition = Duration.INDEFINITE.equals(timeout) ? null : new PauseTransition(timeout);
         if (pauseTransition != null) {
-            animation.setOnFinished(finish -> {
-                if (pauseTransition != null) {
-                    pauseTransition.setOnFinished(done -> {
-                        pauseTransition = null;
-                        eventsSet.remove(currentEvent);
-                        currentEvent = eventQueue.peek();
-                        close();
-                    });
-                    pauseTransition.play();
-                }
-            });
+            animation.setOnFinished(finish -> playPauseTransition());
         }
         return animation;
     }
 
+    private void playPauseTransition() {
+        if (pauseTransition != null) {
+            pauseTransition.setOnFinished(done -> {
+                pauseTransition = null;
+                eventsSet.remove(currentEvent);
+                currentEvent = eventQueue.peek();
+                close();
+            });
+            pauseTransition.play();
+        }
+    }
+
     public void close() {
         if (openAnimation != null) {
             openAnimation.stop();
@@ -267,6 +281,16 @@ public class JFXSnackbar extends Group {
                 pauseTransition.stop();
                 pauseTransition = null;
             }
+            if (JFXReducedMotion.isReducedMotion(this)) {
+                // hide the snackbar without animation
+                toBack();
+                setVisible(false);
+                setTranslateY(getLayoutBounds().getHeight());
+                setOpacity(0);
+                resetPseudoClass();
+                processSnackbar();
+                return;
+            }
             Timeline closeAnimation = new Timeline(
                 new KeyFrame(
                     Duration.ZERO,
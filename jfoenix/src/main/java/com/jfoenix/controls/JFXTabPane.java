@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.skins.JFXTabPaneSkin;
 import com.sun.javafx.css.converters.BooleanConverter;
 import javafx.css.CssMetaData;
@@ -42,7 +43,7 @@ import java.util.List;
  * @version 1.0
  * @since 2016-03-09
  */
-public class JFXTabPane extends TabPane {
+public class JFXTabPane extends TabPane implements IFXStaticControl {
     /**
      * Initialize the style class to 'jfx-tab-pane'.
      * <p>
@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.skins.JFXToggleButtonSkin;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.css.converters.PaintConverter;
@@ -58,7 +59,7 @@ import java.util.List;
  * @version 1.0
  * @since 2016-03-09
  */
-public class JFXToggleButton extends ToggleButton {
+public class JFXToggleButton extends ToggleButton implements IFXStaticControl {
 
     /**
      * {@inheritDoc}
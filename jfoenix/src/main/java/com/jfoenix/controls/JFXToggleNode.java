@@ -20,6 +20,7 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.skins.JFXToggleNodeSkin;
 import com.sun.javafx.css.converters.BooleanConverter;
 import com.sun.javafx.css.converters.ColorConverter;
@@ -46,7 +47,7 @@ import java.util.List;
  * @since 2016-03-09
  */
 @DefaultProperty(value = "graphic")
-public class JFXToggleNode extends ToggleButton {
+public class JFXToggleNode extends ToggleButton implements IFXStaticControl {
 
     /**
      * {@inheritDoc}
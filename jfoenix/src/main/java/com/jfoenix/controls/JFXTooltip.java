@@ -163,6 +163,7 @@ public class JFXTooltip extends Tooltip {
         getStyleClass().add(DEFAULT_STYLE_CLASS);
         eventHandlerManager.addEventHandler(WindowEvent.WINDOW_SHOWING, event -> {
             root = getScene().getRoot();
+            animation.setOwner(root);
             root.setOpacity(0);
             root.setScaleY(0.8);
             root.setScaleX(0.8);
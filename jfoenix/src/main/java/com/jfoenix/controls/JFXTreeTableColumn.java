@@ -20,13 +20,20 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.controls.cells.editors.base.JFXTreeTableCell;
+import com.jfoenix.controls.datamodels.treetable.GroupAccumulator;
+import com.jfoenix.controls.datamodels.treetable.GroupAggregate;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.scene.Node;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TreeTableCell;
+import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
 import javafx.util.Callback;
 
@@ -59,13 +66,23 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
             @Override
             public TreeTableCell<S, T> call(TreeTableColumn<S, T> param) {
                 return new JFXTreeTableCell<S, T>() {
+                    private ObservableValue<Number> aggregateValue;
+
                     @Override
                     protected void updateItem(T item, boolean empty) {
-                        if (item == getItem()) {
+                        // group rows have no item, they show the aggregated value if any
+                        final ObservableValue<Number> aggregate = item != null || empty || getTreeTableView() == null
+                            ? null : getAggregateValue(getTreeTableView().getTreeItem(getIndex()));
+                        if (item == getItem() && aggregate == aggregateValue) {
                             return;
                         }
                         super.updateItem(item, empty);
-                        if (item == null) {
+                        aggregateValue = aggregate;
+                        textProperty().unbind();
+                        if (aggregate != null) {
+                            super.setGraphic(null);
+                            textProperty().bind(Bindings.convert(aggregate));
+                        } else if (item == null) {
                             super.setText(null);
                             super.setGraphic(null);
                         } else if (item instanceof Node) {
@@ -83,7 +100,12 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
         final ContextMenu contextMenu = new ContextMenu();
         MenuItem item1 = new MenuItem("Group");
         item1.setOnAction((action) -> {
-            ((JFXTreeTableView) getTreeTableView()).group(this);
+            final JFXTreeTableView treeTableView = (JFXTreeTableView) getTreeTableView();
+            if (treeTableView.isParallelGrouping()) {
+                treeTableView.groupAsync(this);
+            } else {
+                treeTableView.group(this);
+            }
         });
         MenuItem item2 = new MenuItem("UnGroup");
         item2.setOnAction((action) -> {
@@ -102,7 +124,9 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
      */
     public final boolean validateValue(CellDataFeatures<S, T> param) {
         Object rowObject = param.getValue().getValue();
-        return !((rowObject instanceof RecursiveTreeObject && rowObject.getClass() == RecursiveTreeObject.class)
+        // rows of paged tree items have no value until they are loaded
+        return !(rowObject == null
+                 || (rowObject instanceof RecursiveTreeObject && rowObject.getClass() == RecursiveTreeObject.class)
                  || (param.getTreeTableView() instanceof JFXTreeTableView
                      && ((JFXTreeTableView<?>) param.getTreeTableView()).getGroupOrder().contains(this)
                      // make sure the node is a direct child to a group node
@@ -127,6 +151,45 @@ public class JFXTreeTableColumn<S, T> extends TreeTableColumn<S, T> {
         return null;
     }
 
+    /**
+     * the aggregated values are not returned as the cell values of group rows, as they
+     * don't match the column type. They are rendered by the default cells of the column,
+     * custom cells can use this method to render them.
+     *
+     * @param treeItem tree item of the row
+     * @return the aggregated value of the column for a group row, null if the row is not
+     * a group row or the column has no group aggregate
+     */
+    public final ReadOnlyObjectProperty<Number> getAggregateValue(TreeItem<S> treeItem) {
+        if (treeItem == null || getGroupAggregate() == null || !(treeItem.getValue() instanceof RecursiveTreeObject)) {
+            return null;
+        }
+        RecursiveTreeObject item = (RecursiveTreeObject) treeItem.getValue();
+        if (item.getGroupedColumn() == null || item.getGroupedColumn() == this) {
+            return null;
+        }
+        GroupAccumulator accumulator = item.getAggregate(this);
+        return accumulator == null ? null : accumulator.valueProperty();
+    }
+
+    /**
+     * aggregate function computed for the group rows while grouping the tree table view,
+     * changing it requires regrouping the tree table view
+     */
+    private ObjectProperty<GroupAggregate<S>> groupAggregate = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<GroupAggregate<S>> groupAggregateProperty() {
+        return this.groupAggregate;
+    }
+
+    public final GroupAggregate<S> getGroupAggregate() {
+        return this.groupAggregateProperty().get();
+    }
+
+    public final void setGroupAggregate(final GroupAggregate<S> groupAggregate) {
+        this.groupAggregateProperty().set(groupAggregate);
+    }
+
     /**
      * @return true if the column is grouped else false
      */
@@ -20,12 +20,18 @@
 package com.jfoenix.controls;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.controls.datamodels.treetable.GroupAccumulator;
+import com.jfoenix.controls.datamodels.treetable.GroupAggregate;
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.skins.JFXTreeTableViewSkin;
 import com.jfoenix.utils.JFXUtilities;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -35,19 +41,29 @@ import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableColumn;
 import javafx.scene.control.TreeTableView;
 import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 /**
@@ -74,7 +90,7 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
      */
     public JFXTreeTableView(TreeItem<S> root) {
         super(root);
-        originalRoot = root;
+        setOriginalRoot(root);
         init();
     }
 
@@ -116,20 +132,44 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
             }
         });
 
-        this.rootProperty().addListener(observable -> {
+        this.rootProperty().addListener((o, oldRoot, newRoot) -> {
+            if (getItemsCountProperty(oldRoot) != null) {
+                getItemsCountProperty(oldRoot).removeListener(itemsCountListener);
+            }
+            if (getItemsCountProperty(newRoot) != null) {
+                getItemsCountProperty(newRoot).addListener(itemsCountListener);
+            }
             if (getRoot() != null) {
                 setCurrentItemsCount(count(getRoot()));
             }
             if (!internalSetRoot) {
-                originalRoot = getRoot();
+                setOriginalRoot(getRoot());
                 reGroup();
             }
         });
 
         // compute the current items count
+        if (getItemsCountProperty(getRoot()) != null) {
+            getItemsCountProperty(getRoot()).addListener(itemsCountListener);
+        }
         setCurrentItemsCount(count(getRoot()));
     }
 
+    private final InvalidationListener itemsCountListener = observable -> setCurrentItemsCount(count(getRoot()));
+
+    /*
+     * the items count of roots that maintain it, e.g. paged roots count their rows asynchronously
+     */
+    private static ReadOnlyIntegerProperty getItemsCountProperty(TreeItem<?> root) {
+        if (root instanceof RecursiveTreeItem) {
+            return ((RecursiveTreeItem<?>) root).itemsCountProperty();
+        }
+        if (root instanceof PagedTreeItem) {
+            return ((PagedTreeItem<?>) root).rowCountProperty();
+        }
+        return null;
+    }
+
 
     private static final String DEFAULT_STYLE_CLASS = "jfx-tree-table-view";
 
@@ -180,11 +220,163 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
      */
     @Override
     public void sort() {
+        if (getRoot() instanceof PagedTreeItem) {
+            // sorting is pushed down to the data provider
+            ((PagedTreeItem<S>) getRoot()).setSortOrder(getSortOrder());
+            return;
+        }
+        if (isIncrementalSort()) {
+            if (restoringSortOrder) {
+                // the tree items are already sorted
+                return;
+            }
+            // the reversal skips the sort policy and the sort event, so it's only done by default
+            if (getSortPolicy() == DEFAULT_SORT_POLICY && getOnSort() == null
+                && isSortReversed() && getComparator() != null && isReversible(getRoot(), getComparator())) {
+                getSelectionModel().clearSelection();
+                reverseChildren(getRoot());
+                if (itemWasSelected) {
+                    getSelectionModel().select(0);
+                }
+                updateSortState();
+                return;
+            }
+        }
         getSelectionModel().clearSelection();
         super.sort();
         if (itemWasSelected) {
             getSelectionModel().select(0);
         }
+        updateSortState();
+    }
+
+    /*
+     * the sort order applied to the tree items, used to detect sort direction toggles
+     */
+    private final List<TreeTableColumn<S, ?>> sortedColumns = new ArrayList<>();
+    private final List<TreeTableColumn.SortType> sortedTypes = new ArrayList<>();
+    private boolean restoringSortOrder = false;
+
+    private void updateSortState() {
+        sortedColumns.clear();
+        sortedTypes.clear();
+        for (TreeTableColumn<S, ?> column : getSortOrder()) {
+            sortedColumns.add(column);
+            sortedTypes.add(column.getSortType());
+        }
+    }
+
+    /*
+     * checks whether the current sort order is the applied one with all directions toggled
+     */
+    private boolean isSortReversed() {
+        if (sortedColumns.isEmpty() || !sortedColumns.equals(getSortOrder())) {
+            return false;
+        }
+        for (int i = 0; i < sortedColumns.size(); i++) {
+            if (sortedTypes.get(i) == sortedColumns.get(i).getSortType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * checks whether the tree items can be reversed instead of sorted, i.e. the children are
+     * strictly in the reverse order of the comparator (rows added or restored by a filter
+     * since the last sort are not sorted, and a stable sort keeps the order of equal items)
+     * and there are no lazy items (reversing them would create their children)
+     */
+    private boolean isReversible(TreeItem<S> item, Comparator<TreeItem<S>> comparator) {
+        if (item == null) {
+            return true;
+        }
+        if (item instanceof RecursiveTreeItem && ((RecursiveTreeItem<S>) item).isLazy()) {
+            return false;
+        }
+        if (item.isLeaf()) {
+            return true;
+        }
+        final List<TreeItem<S>> children = item.getChildren();
+        for (int i = 0; i < children.size() - 1; i++) {
+            if (comparator.compare(children.get(i), children.get(i + 1)) <= 0) {
+                return false;
+            }
+        }
+        for (TreeItem<S> child : children) {
+            if (!isReversible(child, comparator)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void reverseChildren(TreeItem<S> item) {
+        if (item == null || item.isLeaf()) {
+            return;
+        }
+        FXCollections.reverse(item.getChildren());
+        for (TreeItem<S> child : item.getChildren()) {
+            reverseChildren(child);
+        }
+    }
+
+    /*
+     * inserts the item at its sorted position (after its equal items), the item
+     * is appended if the incremental sort is disabled or the table is not sorted
+     */
+    private void insertSorted(ObservableList<TreeItem<S>> items, TreeItem<S> item) {
+        final Comparator<TreeItem<S>> comparator = getComparator();
+        if (!isIncrementalSort() || comparator == null || getSortOrder().isEmpty()) {
+            items.add(item);
+            return;
+        }
+        int index = Collections.binarySearch(items, item, comparator);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        while (index < items.size() && comparator.compare(items.get(index), item) <= 0) {
+            index++;
+        }
+        items.add(index, item);
+    }
+
+    /*
+     * checks whether the item at the specified index is ordered relative to its neighbours
+     */
+    private boolean isSorted(List<TreeItem<S>> items, int index) {
+        final Comparator<TreeItem<S>> comparator = getComparator();
+        if (comparator == null || index < 0) {
+            return true;
+        }
+        return (index == 0 || comparator.compare(items.get(index - 1), items.get(index)) <= 0)
+               && (index == items.size() - 1 || comparator.compare(items.get(index), items.get(index + 1)) <= 0);
+    }
+
+    private void sortChildren(ObservableList<TreeItem<S>> items) {
+        final Comparator<TreeItem<S>> comparator = getComparator();
+        if (isIncrementalSort() && comparator != null && !getSortOrder().isEmpty()) {
+            FXCollections.sort(items, comparator);
+        }
+    }
+
+    /**
+     * when enabled, the groups keep their children ordered by the active sort order,
+     * rows are inserted / moved at their sorted position using binary search and
+     * toggling the sort direction of the sorted columns reverses the tree items
+     */
+    private BooleanProperty incrementalSort = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty incrementalSortProperty() {
+        return this.incrementalSort;
+    }
+
+    public final boolean isIncrementalSort() {
+        return this.incrementalSortProperty().get();
+    }
+
+    public final void setIncrementalSort(final boolean incrementalSort) {
+        this.incrementalSortProperty().set(incrementalSort);
     }
 
 
@@ -224,15 +416,22 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
             }
             try {
                 if (originalRoot == null) {
-                    originalRoot = getRoot();
+                    setOriginalRoot(getRoot());
                 }
                 List<TreeTableColumn<S, ?>> toBeAdded = new ArrayList<>();
                 for (TreeTableColumn<S, ?> treeTableColumn : treeTableColumns) {
-                    if (groupOrder.contains(treeTableColumn)) {
+                    if (groupOrder.contains(treeTableColumn) || toBeAdded.contains(treeTableColumn)) {
                         continue;
                     }
                     toBeAdded.add(treeTableColumn);
-                    groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+                    if (!isParallelGrouping()) {
+                        groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+                    }
+                }
+                if (isParallelGrouping()) {
+                    List<TreeTableColumn<S, ?>> groupColumns = new ArrayList<>(groupOrder);
+                    groupColumns.addAll(toBeAdded);
+                    groups = parallelGroup(((RecursiveTreeItem<S>) originalRoot).getFilteredItems(), groupColumns);
                 }
                 groupOrder.addAll(toBeAdded);
                 // update table ui
@@ -245,10 +444,25 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         }
     }
 
+    /**
+     * groups the tree table view on the filter thread, the grouped root
+     * is published to the FX thread once the grouping is done.
+     *
+     * @param treeTableColumns
+     * @return a future that completes once the grouped root is built
+     */
+    public Future<?> groupAsync(TreeTableColumn<S, ?>... treeTableColumns) {
+        return getExecutor().submit(() -> group(treeTableColumns));
+    }
+
     private void refreshGroups(List<TreeTableColumn<S, ?>> groupColumns) {
         groups = new HashMap<>();
-        for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
-            groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+        if (isParallelGrouping()) {
+            groups = parallelGroup(((RecursiveTreeItem<S>) originalRoot).getFilteredItems(), groupColumns);
+        } else {
+            for (TreeTableColumn<S, ?> treeTableColumn : groupColumns) {
+                groups = group(treeTableColumn, groups, null, (RecursiveTreeItem<S>) originalRoot);
+            }
         }
         groupOrder.setAll(groupColumns);
         // update table ui
@@ -282,6 +496,11 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
                     getSortOrder().addAll(sortOrder);
                     if (grouped.size() != 0) {
                         refreshGroups(grouped);
+                    } else {
+                        groupedRoot = null;
+                        groupsIndex.clear();
+                        rowGroups.clear();
+                        rowAggregateValues.clear();
                     }
                 });
             }
@@ -292,7 +511,7 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
 
     private Map group(TreeTableColumn<S, ?> column, Map parentGroup, Object key, RecursiveTreeItem<S> root) {
         if (parentGroup.isEmpty()) {
-            parentGroup = groupByFunction(root.filteredItems, column);
+            parentGroup = groupByFunction(root.getFilteredItems(), column);
             return parentGroup;
         }
         Object value = parentGroup.get(key);
@@ -315,6 +534,87 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         return parentGroup;
     }
 
+    /**
+     * groups the items by all the specified columns at once, keys are extracted using
+     * fork/join tasks over chunks of the items, then the partial group maps are merged.
+     *
+     * @param items   to be grouped
+     * @param columns group columns ordered by the group level
+     * @return nested group maps, where the last level maps the group key to its items
+     */
+    protected Map parallelGroup(List<TreeItem<S>> items, List<TreeTableColumn<S, ?>> columns) {
+        if (columns.isEmpty()) {
+            return new HashMap<>();
+        }
+        final List<TreeItem<S>> snapshot = new ArrayList<>(items);
+        return ForkJoinPool.commonPool().invoke(new GroupingTask<>(snapshot, columns, 0, snapshot.size()));
+    }
+
+    /*
+     * number of rows grouped sequentially by a single grouping task
+     */
+    private static final int GROUPING_CHUNK_SIZE = 4096;
+
+    private static final class GroupingTask<S> extends RecursiveTask<Map<Object, Object>> {
+        private final List<TreeItem<S>> items;
+        private final List<TreeTableColumn<S, ?>> columns;
+        private final int from;
+        private final int to;
+
+        GroupingTask(List<TreeItem<S>> items, List<TreeTableColumn<S, ?>> columns, int from, int to) {
+            this.items = items;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Object, Object> compute() {
+            if (to - from <= GROUPING_CHUNK_SIZE) {
+                return groupChunk();
+            }
+            final int middle = (from + to) >>> 1;
+            GroupingTask<S> left = new GroupingTask<>(items, columns, from, middle);
+            GroupingTask<S> right = new GroupingTask<>(items, columns, middle, to);
+            right.fork();
+            Map<Object, Object> leftGroups = left.compute();
+            return merge(leftGroups, right.join());
+        }
+
+        private Map<Object, Object> groupChunk() {
+            final Map<Object, Object> chunkGroups = new HashMap<>();
+            final int lastLevel = columns.size() - 1;
+            for (int i = from; i < to; i++) {
+                final TreeItem<S> item = items.get(i);
+                Map<Object, Object> level = chunkGroups;
+                for (int c = 0; c < lastLevel; c++) {
+                    level = (Map<Object, Object>) level.computeIfAbsent(columns.get(c).getCellData(item),
+                        k -> new HashMap<>());
+                }
+                ((List<TreeItem<S>>) level.computeIfAbsent(columns.get(lastLevel).getCellData(item),
+                    k -> new ArrayList<>())).add(item);
+            }
+            return chunkGroups;
+        }
+
+        /*
+         * merges the right partial groups into the left ones, keeping the rows order
+         */
+        private static Map<Object, Object> merge(Map<Object, Object> left, Map<Object, Object> right) {
+            for (Map.Entry<Object, Object> entry : right.entrySet()) {
+                final Object leftValue = left.get(entry.getKey());
+                if (leftValue == null) {
+                    left.put(entry.getKey(), entry.getValue());
+                } else if (leftValue instanceof List) {
+                    ((List) leftValue).addAll((List) entry.getValue());
+                } else {
+                    merge((Map<Object, Object>) leftValue, (Map<Object, Object>) entry.getValue());
+                }
+            }
+            return left;
+        }
+    }
+
     protected Map groupByFunction(List<TreeItem<S>> items, TreeTableColumn<S, ?> column) {
         Map<Object, List<TreeItem<S>>> map = new HashMap<>();
         for (TreeItem<S> child : items) {
@@ -334,36 +634,38 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         if (parent == null) {
             parent = new RecursiveTreeItem<>(new RecursiveTreeObject(), RecursiveTreeObject::getChildren);
             setRoot = true;
+            groupedRoot = parent;
+            groupsIndex.clear();
+            rowGroups.clear();
+            rowAggregateValues.clear();
+            aggregatedColumns = getAggregatedColumns();
         }
 
         for (Map.Entry<?, ?> entry : groupedItems.entrySet()) {
             Object key = entry.getKey();
-            RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
-            groupItem.setGroupedValue(key);
-            groupItem.setGroupedColumn(groupOrder.get(groupIndex));
-
-            RecursiveTreeItem node = new RecursiveTreeItem<>(groupItem, RecursiveTreeObject::getChildren);
-            // TODO: need to be removed once the selection issue is fixed
-            node.expandedProperty().addListener((o, oldVal, newVal) -> {
-                getSelectionModel().clearSelection();
-            });
-
-            parent.originalItems.add(node);
-            parent.getChildren().add(node);
+            RecursiveTreeItem node = createGroupNode(parent, key, groupIndex);
 
             Object children = entry.getValue();
             if (children instanceof List) {
                 node.originalItems.addAll((List) children);
                 node.getChildren().addAll((List) children);
+                sortChildren(node.getChildren());
+                for (Object child : (List) children) {
+                    rowGroups.put((TreeItem<S>) child, node);
+                }
             } else if (children instanceof Map) {
                 buildGroupedRoot((Map) children, node, groupIndex + 1);
             }
+            computeAggregates(node);
+            RecursiveTreeObject groupItem = (RecursiveTreeObject) node.getValue();
             groupItem.setChildren(node.getChildren());
             if (groupedRootConsumer != null) {
                 groupedRootConsumer.accept(key, groupItem);
             }
         }
 
+        sortChildren(parent.getChildren());
+
         // update ui
         if (setRoot) {
             final RecursiveTreeItem<S> newParent = parent;
@@ -373,12 +675,305 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
                 internalSetRoot = true;
                 setRoot(newParent);
                 internalSetRoot = false;
-                getSortOrder().addAll(sortOrder);
+                // the groups are already sorted in incremental sort mode
+                restoringSortOrder = true;
+                try {
+                    getSortOrder().addAll(sortOrder);
+                } finally {
+                    restoringSortOrder = false;
+                }
                 getSelectionModel().select(0);
             });
         }
     }
 
+    /*
+     * creates a group node for the specified key and adds it to its parent group
+     */
+    private RecursiveTreeItem<S> createGroupNode(RecursiveTreeItem<S> parent, Object key, int groupIndex) {
+        RecursiveTreeObject groupItem = new RecursiveTreeObject<>();
+        groupItem.setGroupedValue(key);
+        groupItem.setGroupedColumn(groupOrder.get(groupIndex));
+
+        RecursiveTreeItem<S> node = new RecursiveTreeItem<>((S) groupItem, RecursiveTreeObject::getChildren);
+        // TODO: need to be removed once the selection issue is fixed
+        node.expandedProperty().addListener((o, oldVal, newVal) -> {
+            getSelectionModel().clearSelection();
+        });
+
+        parent.originalItems.add(node);
+        parent.getChildren().add(node);
+        groupsIndex.computeIfAbsent(parent, p -> new HashMap<>()).put(key, node);
+        return node;
+    }
+
+    /*
+     * group index, used to update the groups incrementally when the data list changes
+     */
+    private RecursiveTreeItem<S> groupedRoot;
+    // maps each group node (or the grouped root) to its sub groups by the group key
+    private final Map<TreeItem<S>, Map<Object, RecursiveTreeItem<S>>> groupsIndex = new IdentityHashMap<>();
+    // maps each row to its (last level) group node
+    private final Map<TreeItem<S>, RecursiveTreeItem<S>> rowGroups = new IdentityHashMap<>();
+
+    private void onItemsChanged(List<TreeItem<S>> removed, List<TreeItem<S>> added, List<TreeItem<S>> updated) {
+        if (groupOrder.isEmpty()) {
+            return;
+        }
+        JFXUtilities.runInFX(() -> {
+            if (!lock.tryLock()) {
+                // groups are being rebuilt, so regroup once it's done
+                getExecutor().submit(this::reGroup);
+                return;
+            }
+            try {
+                if (groupedRoot == null || groupOrder.isEmpty()) {
+                    return;
+                }
+                for (TreeItem<S> row : removed) {
+                    removeFromGroup(row);
+                }
+                for (TreeItem<S> row : updated) {
+                    if (!isInGroup(row)) {
+                        removeFromGroup(row);
+                        addToGroup(row);
+                        continue;
+                    }
+                    if (isIncrementalSort()) {
+                        // move the updated row to its sorted position
+                        final ObservableList<TreeItem<S>> children = rowGroups.get(row).getChildren();
+                        final int index = children.indexOf(row);
+                        if (!isSorted(children, index)) {
+                            children.remove(index);
+                            insertSorted(children, row);
+                        }
+                    }
+                    if (!aggregatedColumns.isEmpty()) {
+                        updateAggregates(row);
+                    }
+                }
+                for (TreeItem<S> row : added) {
+                    addToGroup(row);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void addToGroup(TreeItem<S> row) {
+        // test the row using the user predicate, as the filtered items predicate
+        // of an incremental filter pass only accepts the rows of that pass
+        final Predicate<TreeItem<S>> filter = ((RecursiveTreeItem<S>) originalRoot).getPredicate();
+        if (filter != null && row.isLeaf() && !filter.test(row)) {
+            return;
+        }
+        RecursiveTreeItem<S> group = groupedRoot;
+        for (int i = 0; i < groupOrder.size(); i++) {
+            final Object key = groupOrder.get(i).getCellData(row);
+            final Map<Object, RecursiveTreeItem<S>> subGroups = groupsIndex.get(group);
+            RecursiveTreeItem<S> subGroup = subGroups == null ? null : subGroups.get(key);
+            if (subGroup == null) {
+                subGroup = createGroupNode(group, key, i);
+                if (isIncrementalSort()) {
+                    group.getChildren().remove(subGroup);
+                    insertSorted(group.getChildren(), subGroup);
+                }
+                ((RecursiveTreeObject) subGroup.getValue()).setChildren(subGroup.getChildren());
+                if (groupedRootConsumer != null) {
+                    groupedRootConsumer.accept(key, subGroup.getValue());
+                }
+            }
+            group = subGroup;
+        }
+        group.originalItems.add(row);
+        insertSorted(group.getChildren(), row);
+        rowGroups.put(row, group);
+        if (aggregatedColumns.isEmpty()) {
+            return;
+        }
+        // update the aggregates of the row groups
+        final double[] values = aggregateValues(row);
+        rowAggregateValues.put(row, values);
+        for (TreeItem<S> parent = group; parent != null && parent != groupedRoot; parent = parent.getParent()) {
+            for (int i = 0; i < aggregatedColumns.size(); i++) {
+                final JFXTreeTableColumn<S, ?> column = aggregatedColumns.get(i);
+                final GroupAccumulator accumulator = parent.getValue().getAggregates()
+                    .computeIfAbsent(column, c -> new GroupAccumulator(column.getGroupAggregate().getType()));
+                accumulator.add(values[i]);
+                accumulator.update();
+            }
+        }
+    }
+
+    private void removeFromGroup(TreeItem<S> row) {
+        RecursiveTreeItem<S> group = rowGroups.remove(row);
+        if (group == null) {
+            return;
+        }
+        group.originalItems.remove(row);
+        group.getChildren().remove(row);
+        // update the aggregates of the row groups, using the values the row was aggregated with
+        final double[] values = rowAggregateValues.remove(row);
+        for (TreeItem<S> parent = group; parent != null && parent != groupedRoot; parent = parent.getParent()) {
+            if (values == null) {
+                computeAggregates((RecursiveTreeItem<S>) parent);
+                continue;
+            }
+            boolean recompute = false;
+            for (int i = 0; i < aggregatedColumns.size(); i++) {
+                final GroupAccumulator accumulator = parent.getValue().getAggregate(aggregatedColumns.get(i));
+                if (accumulator != null) {
+                    recompute |= accumulator.remove(values[i]);
+                    accumulator.update();
+                }
+            }
+            if (recompute) {
+                computeAggregates((RecursiveTreeItem<S>) parent);
+            }
+        }
+        // remove the group nodes that became empty
+        while (group != groupedRoot && group.originalItems.isEmpty()) {
+            final RecursiveTreeItem<S> parent = (RecursiveTreeItem<S>) group.getParent();
+            if (parent == null) {
+                break;
+            }
+            parent.originalItems.remove(group);
+            parent.getChildren().remove(group);
+            groupsIndex.remove(group);
+            final Map<Object, RecursiveTreeItem<S>> subGroups = groupsIndex.get(parent);
+            if (subGroups != null) {
+                subGroups.remove(group.getValue().getGroupedValue());
+            }
+            group = parent;
+        }
+    }
+
+    /*
+     * columns having a group aggregate, collected while building the grouped root
+     */
+    private List<JFXTreeTableColumn<S, ?>> aggregatedColumns = Collections.emptyList();
+
+    /*
+     * the values each row was aggregated with (by aggregated column index), used to update
+     * the group aggregates by deltas once the row is updated or removed
+     */
+    private final Map<TreeItem<S>, double[]> rowAggregateValues = new IdentityHashMap<>();
+
+    private double[] aggregateValues(TreeItem<S> row) {
+        final double[] values = new double[aggregatedColumns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = aggregatedColumns.get(i).getGroupAggregate().getValue(row.getValue());
+        }
+        return values;
+    }
+
+    /*
+     * updates the aggregates of the row groups with the changes of the row values
+     */
+    private void updateAggregates(TreeItem<S> row) {
+        final double[] oldValues = rowAggregateValues.get(row);
+        final double[] newValues = aggregateValues(row);
+        rowAggregateValues.put(row, newValues);
+        for (TreeItem<S> group = rowGroups.get(row); group != null && group != groupedRoot; group = group.getParent()) {
+            if (oldValues == null) {
+                computeAggregates((RecursiveTreeItem<S>) group);
+                continue;
+            }
+            boolean recompute = false;
+            for (int i = 0; i < newValues.length; i++) {
+                if (Double.compare(oldValues[i], newValues[i]) == 0) {
+                    continue;
+                }
+                final GroupAccumulator accumulator = group.getValue().getAggregate(aggregatedColumns.get(i));
+                if (accumulator != null) {
+                    recompute |= accumulator.remove(oldValues[i]);
+                    accumulator.add(newValues[i]);
+                    accumulator.update();
+                }
+            }
+            // the min / max value was removed
+            if (recompute) {
+                computeAggregates((RecursiveTreeItem<S>) group);
+            }
+        }
+    }
+
+    private List<JFXTreeTableColumn<S, ?>> getAggregatedColumns() {
+        List<JFXTreeTableColumn<S, ?>> columns = new ArrayList<>();
+        collectAggregatedColumns(getColumns(), columns);
+        return columns;
+    }
+
+    private void collectAggregatedColumns(List<TreeTableColumn<S, ?>> columns, List<JFXTreeTableColumn<S, ?>> result) {
+        for (TreeTableColumn<S, ?> column : columns) {
+            if (column instanceof JFXTreeTableColumn && ((JFXTreeTableColumn<S, ?>) column).getGroupAggregate() != null) {
+                result.add((JFXTreeTableColumn<S, ?>) column);
+            }
+            collectAggregatedColumns(column.getColumns(), result);
+        }
+    }
+
+    /*
+     * computes the aggregates of a group node from its rows, or from the
+     * aggregates of its sub groups
+     */
+    private void computeAggregates(RecursiveTreeItem<S> group) {
+        for (int i = 0; i < aggregatedColumns.size(); i++) {
+            final JFXTreeTableColumn<S, ?> column = aggregatedColumns.get(i);
+            final GroupAggregate<S> aggregate = column.getGroupAggregate();
+            final Map<TreeTableColumn<S, ?>, GroupAccumulator> aggregates = group.getValue().getAggregates();
+            GroupAccumulator accumulator = aggregates.get(column);
+            if (accumulator == null || accumulator.getType() != aggregate.getType()) {
+                accumulator = new GroupAccumulator(aggregate.getType());
+                aggregates.put(column, accumulator);
+            } else {
+                accumulator.reset();
+            }
+            for (TreeItem<S> child : group.originalItems) {
+                if (child.getValue() != null && child.getValue().getClass() == RecursiveTreeObject.class) {
+                    final GroupAccumulator childAccumulator = child.getValue().getAggregate(column);
+                    if (childAccumulator != null) {
+                        accumulator.merge(childAccumulator);
+                    }
+                } else {
+                    accumulator.add(rowAggregateValues.computeIfAbsent(child, this::aggregateValues)[i]);
+                }
+            }
+            accumulator.update();
+        }
+    }
+
+    /*
+     * checks whether the row is still in the group matching its group keys
+     */
+    private boolean isInGroup(TreeItem<S> row) {
+        TreeItem<S> group = rowGroups.get(row);
+        if (group == null) {
+            return false;
+        }
+        for (int i = groupOrder.size() - 1; i >= 0 && group != null; i--) {
+            if (!Objects.equals(group.getValue().getGroupedValue(), groupOrder.get(i).getCellData(row))) {
+                return false;
+            }
+            group = group.getParent();
+        }
+        return true;
+    }
+
+    /*
+     * sets the ungrouped root and listens to its data changes to update the groups
+     */
+    private void setOriginalRoot(TreeItem<S> root) {
+        if (originalRoot instanceof RecursiveTreeItem) {
+            ((RecursiveTreeItem<S>) originalRoot).itemsChangeListener = null;
+        }
+        originalRoot = root;
+        if (originalRoot instanceof RecursiveTreeItem) {
+            ((RecursiveTreeItem<S>) originalRoot).itemsChangeListener = this::onItemsChanged;
+        }
+    }
+
     private ScheduledExecutorService threadPool = createThreadPool();
 
     private ScheduledExecutorService createThreadPool() {
@@ -392,19 +987,72 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
             });
     }
 
-    private Runnable filterRunnable = () -> {
+    /*
+     * whether all predicate changes since the last filter pass were refinements
+     */
+    private boolean refiningPredicate = false;
+    private volatile boolean refinePending = false;
+
+    /*
+     * generation of the latest predicate change, filter passes of older
+     * generations are aborted and their results are never published
+     */
+    private final AtomicLong filterGeneration = new AtomicLong();
+
+    /*
+     * filter passes only abort cooperatively, so a cancelled pass can still be running
+     * when the next one starts on a multi-threaded filter executor. This lock is used
+     * to run the filter passes one at a time.
+     */
+    private final Lock filterLock = new ReentrantLock();
+
+    private void filter(long generation) {
+        final BooleanSupplier cancelled = () -> generation != filterGeneration.get();
+        if (cancelled.getAsBoolean()) {
+            return;
+        }
+        filterLock.lock();
+        try {
+            if (!cancelled.getAsBoolean()) {
+                filter(cancelled);
+            }
+        } finally {
+            filterLock.unlock();
+        }
+    }
+
+    private void filter(BooleanSupplier cancelled) {
         if (originalRoot == null) {
-            originalRoot = getRoot();
+            setOriginalRoot(getRoot());
+        }
+        if (!(originalRoot instanceof RecursiveTreeItem)) {
+            // paged roots are filtered by their data provider
+            return;
         }
         // filter the ungrouped root
-        ((RecursiveTreeItem) originalRoot).setPredicate(getPredicate());
+        final RecursiveTreeItem<S> root = (RecursiveTreeItem<S>) originalRoot;
+        root.filterCancelled = cancelled;
+        try {
+            if (refinePending) {
+                root.refinePredicate(getPredicate());
+            } else {
+                root.setPredicate(getPredicate());
+            }
+        } finally {
+            root.filterCancelled = null;
+        }
+        if (cancelled.getAsBoolean()) {
+            return;
+        }
         // regroup the data
         reGroup();
         Platform.runLater(() -> {
-            getSelectionModel().select(0);
-            setCurrentItemsCount(count(getRoot()));
+            if (!cancelled.getAsBoolean()) {
+                getSelectionModel().select(0);
+                setCurrentItemsCount(count(getRoot()));
+            }
         });
-    };
+    }
 
     private ScheduledFuture<?> task;
 
@@ -412,10 +1060,57 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
      * this method will filter the tree table
      */
     private void filter(Predicate<TreeItem<S>> predicate) {
+        final boolean pending = task != null && !task.isDone();
         if (task != null) {
             task.cancel(false);
         }
-        task = threadPool.schedule(filterRunnable, 200, TimeUnit.MILLISECONDS);
+        refinePending = refiningPredicate && (!pending || refinePending);
+        final long generation = filterGeneration.incrementAndGet();
+        final Duration delay = getFilterDelay();
+        task = getExecutor().schedule(() -> filter(generation),
+            delay == null ? 0 : (long) delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService getExecutor() {
+        final ScheduledExecutorService executor = getFilterExecutor();
+        return executor == null ? threadPool : executor;
+    }
+
+    /**
+     * the delay between a predicate change and the filter pass, further
+     * predicate changes within this delay restart it
+     */
+    private ObjectProperty<Duration> filterDelay = new SimpleObjectProperty<>(Duration.millis(200));
+
+    public final ObjectProperty<Duration> filterDelayProperty() {
+        return this.filterDelay;
+    }
+
+    public final Duration getFilterDelay() {
+        return this.filterDelayProperty().get();
+    }
+
+    public final void setFilterDelay(final Duration filterDelay) {
+        this.filterDelayProperty().set(filterDelay);
+    }
+
+    /**
+     * the executor used to run filter and grouping passes, if not set
+     * the tree table view will use its own filter thread.
+     * The executor can be multi-threaded, filter passes are still run one at a time.
+     */
+    private ObjectProperty<ScheduledExecutorService> filterExecutor = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<ScheduledExecutorService> filterExecutorProperty() {
+        return this.filterExecutor;
+    }
+
+    public final ScheduledExecutorService getFilterExecutor() {
+        return this.filterExecutorProperty().get();
+    }
+
+    public final void setFilterExecutor(final ScheduledExecutorService filterExecutor) {
+        this.filterExecutorProperty().set(filterExecutor);
     }
 
     public void reGroup() {
@@ -440,18 +1135,53 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * sets a predicate that accepts a subset of the items accepted by the current
+     * predicate, allowing a root {@link RecursiveTreeItem} in incremental filter mode
+     * to only test the items that currently pass.
+     *
+     * @param predicate the stricter predicate
+     */
+    public final void refinePredicate(final Predicate<TreeItem<S>> predicate) {
+        refiningPredicate = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refiningPredicate = false;
+        }
+    }
+
+    /**
+     * when enabled, grouping extracts the group keys of all group columns in parallel
+     * using fork/join tasks instead of grouping the rows one column at a time
+     */
+    private BooleanProperty parallelGrouping = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty parallelGroupingProperty() {
+        return this.parallelGrouping;
+    }
+
+    public final boolean isParallelGrouping() {
+        return this.parallelGroupingProperty().get();
+    }
+
+    public final void setParallelGrouping(final boolean parallelGrouping) {
+        this.parallelGroupingProperty().set(parallelGrouping);
+    }
+
     private IntegerProperty currentItemsCount = new SimpleIntegerProperty(0);
     private Map<Object, Map<Object, ?>> groups;
 
     /**
-     * @return the initial tree items count ( add / remove items should be handled manually for now )
+     * @return the current tree items count, it's updated automatically if the root is a
+     * {@link RecursiveTreeItem}, otherwise add / remove items should be handled manually
      */
     public final IntegerProperty currentItemsCountProperty() {
         return this.currentItemsCount;
     }
 
     /**
-     * @return the initial tree items count ( add / remove items should be handled manually for now )
+     * @return the current tree items count
      */
     public final int getCurrentItemsCount() {
         return this.currentItemsCountProperty().get();
@@ -470,6 +1200,12 @@ public class JFXTreeTableView<S extends RecursiveTreeObject<S>> extends TreeTabl
         if (node == null) {
             return 0;
         }
+        if (node instanceof PagedTreeItem) {
+            return ((PagedTreeItem<?>) node).getRowCount();
+        }
+        if (node instanceof RecursiveTreeItem) {
+            return RecursiveTreeItem.countItems(node);
+        }
 
         int count = 1;
         if (node.getValue() == null || (node.getValue() != null && node.getValue()
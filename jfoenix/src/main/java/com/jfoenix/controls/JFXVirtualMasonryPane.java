@@ -0,0 +1,741 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.JFXMasonryPane.LayoutMode;
+import com.jfoenix.controls.JFXMasonryPane.SparseGrid;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.Region;
+import javafx.util.Callback;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A virtualized version of {@link JFXMasonryPane}, instead of holding child nodes it
+ * lays out a list of items using a cell factory (similar to ListView).
+ * <p>
+ * The blocks of all items are computed using the item block size, however cells are only
+ * created / laid out for the items intersecting the viewport of the enclosing {@link ScrollPane}
+ * (plus a buffer), cells of the items that are scrolled out of the viewport are reused.
+ * <p>
+ * Appending items only places the new items, other items changes will recompute the layout.
+ */
+public class JFXVirtualMasonryPane<T> extends Region {
+
+    // grid of the placed items
+    private SparseGrid grid;
+    private int columns = -1;
+    // the bound of rows used by the placed items, used to size the grid
+    private long usedRows = 0;
+    private boolean dirty = true;
+    // index of the first appended item that is not placed yet, -1 if none
+    private int appendFrom = -1;
+
+    // blocks of the items (grid row, grid column, rows count, columns count), -1 row if the item is hidden
+    private int placedCount = 0;
+    private int[] blockRows = new int[0];
+    private int[] blockColumns = new int[0];
+    private int[] blockRowSpans = new int[0];
+    private int[] blockColumnSpans = new int[0];
+    private int maxRowSpan = 0;
+    // the row below the lowest placed block
+    private int maxBlockBottom = 0;
+    // item indices sorted by block row
+    private int[] order = new int[0];
+
+    // region used to measure the items blocks
+    private final Region sizer = new Region();
+    private final List<Region> sizerList = Collections.singletonList(sizer);
+
+    // cells state
+    private JFXMasonryCell<T>[] cellsByIndex = newCellsArray(0);
+    private final List<JFXMasonryCell<T>> activeCells = new ArrayList<>();
+    private final Deque<JFXMasonryCell<T>> cellsPool = new ArrayDeque<>();
+    private int[] visibleStamps = new int[0];
+    private int stamp = 0;
+    // indices of the items shown by the current layout pass that have no cells yet
+    private int[] newIndices = new int[16];
+
+    private ScrollPane scrollPane;
+    private final InvalidationListener viewportListener = observable -> requestLayout();
+    private final WeakInvalidationListener weakViewportListener = new WeakInvalidationListener(viewportListener);
+
+    private final ListChangeListener<T> itemsListener = change -> {
+        while (change.next()) {
+            if (change.wasAdded() && !change.wasRemoved() && change.getFrom() >= placedCount) {
+                // items appended
+                if (appendFrom == -1) {
+                    appendFrom = placedCount;
+                }
+            } else {
+                dirty = true;
+            }
+        }
+        requestLayout();
+    };
+    private WeakListChangeListener<T> weakItemsListener = new WeakListChangeListener<>(itemsListener);
+
+    /**
+     * creates empty virtual masonry pane
+     */
+    public JFXVirtualMasonryPane() {
+        this(FXCollections.observableArrayList());
+    }
+
+    /**
+     * creates a virtual masonry pane for the specified items
+     *
+     * @param items
+     */
+    public JFXVirtualMasonryPane(ObservableList<T> items) {
+        getStyleClass().add(DEFAULT_STYLE_CLASS);
+        setItems(items);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void layoutChildren() {
+        updateScrollPane();
+        int col = (int) Math.floor((getWidth() + getHSpacing() - snappedLeftInset() - snappedRightInset()) / (getCellWidth() + getHSpacing()));
+        col = getLimitColumn() != -1 && col > getLimitColumn() ? getLimitColumn() : col;
+        col = Math.max(col, 0);
+
+        if (dirty || col != columns) {
+            computeBlocks(col);
+        } else if (appendFrom != -1) {
+            appendBlocks();
+        }
+        updateCells();
+    }
+
+    /**
+     * recomputes the blocks of all items
+     */
+    private void computeBlocks(int col) {
+        releaseCells(true);
+        dirty = false;
+        appendFrom = -1;
+        columns = col;
+        final List<T> items = getItems();
+        final int size = items == null ? 0 : items.size();
+        ensureCapacity(size);
+
+        // each item needs at most its rows count, so all items fit in the sum of rows needed
+        usedRows = 0;
+        for (int i = 0; i < size; i++) {
+            usedRows += getRowsNeeded(items.get(i));
+        }
+        grid = new SparseGrid((int) Math.min(Integer.MAX_VALUE / 2, Math.max(1, usedRows * 2)), columns);
+        placedCount = 0;
+        maxRowSpan = 0;
+        maxBlockBottom = 0;
+        order = new int[0];
+        placeBlocks(0, size);
+    }
+
+    /**
+     * places the appended items against the current grid
+     */
+    private void appendBlocks() {
+        final List<T> items = getItems();
+        final int size = items == null ? 0 : items.size();
+        final int from = appendFrom;
+        appendFrom = -1;
+        long newRows = usedRows;
+        for (int i = from; i < size; i++) {
+            newRows += getRowsNeeded(items.get(i));
+        }
+        if (from != placedCount || newRows > grid.getRows()) {
+            // the grid is too small for the new items
+            computeBlocks(columns);
+            return;
+        }
+        usedRows = newRows;
+        ensureCapacity(size);
+        placeBlocks(from, size);
+    }
+
+    private void placeBlocks(int from, int to) {
+        final List<T> items = getItems();
+        final LayoutMode mode = getLayoutMode();
+        if (mode.isSparse()) {
+            for (int i = from; i < to; i++) {
+                updateSizer(items.get(i));
+                BoundingBox box = null;
+                // blocks wider than the grid can't be placed
+                if (mode.getColumnsNeeded(sizer, getCellWidth(), getHSpacing()) <= columns) {
+                    final List<BoundingBox> boxes = mode.fillGrid(grid, sizerList, getCellWidth(), getCellHeight(), getHSpacing(), getVSpacing());
+                    box = boxes == null || boxes.isEmpty() ? null : boxes.get(0);
+                }
+                setBlock(i, box);
+            }
+        } else {
+            // custom layout modes fill a dense matrix of the grid, so all blocks are placed in a single fill
+            final List<Region> blocks = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                final Region block = new Region();
+                setBlockSize(block, items.get(i));
+                blocks.add(block);
+            }
+            final List<BoundingBox> boxes = mode.fillGrid(grid, blocks, getCellWidth(), getCellHeight(), getHSpacing(), getVSpacing());
+            for (int i = from; i < to; i++) {
+                setBlock(i, boxes == null || boxes.size() <= i - from ? null : boxes.get(i - from));
+            }
+        }
+        placedCount = to;
+        updateOrder(from);
+
+        // update pref height
+        if (order.length > 0) {
+            setPrefHeight(maxBlockBottom * (getCellHeight() + getVSpacing()) - getVSpacing()
+                          + snappedTopInset() + snappedBottomInset());
+        }
+    }
+
+    private void setBlock(int index, BoundingBox box) {
+        if (box != null) {
+            blockRows[index] = (int) box.getMinX();
+            blockColumns[index] = (int) box.getMinY();
+            blockRowSpans[index] = (int) box.getHeight();
+            blockColumnSpans[index] = (int) box.getWidth();
+            maxRowSpan = Math.max(maxRowSpan, blockRowSpans[index]);
+            maxBlockBottom = Math.max(maxBlockBottom, blockRows[index] + blockRowSpans[index]);
+        } else {
+            blockRows[index] = -1;
+        }
+    }
+
+    /**
+     * merges the items placed starting from the specified index into the items sorted by their rows
+     */
+    private void updateOrder(int from) {
+        final long[] keys = new long[placedCount - from];
+        int count = 0;
+        for (int i = from; i < placedCount; i++) {
+            if (blockRows[i] != -1) {
+                keys[count++] = ((long) blockRows[i] << 32) | i;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        final int[] merged = new int[order.length + count];
+        int placed = 0;
+        int added = 0;
+        int k = 0;
+        while (placed < order.length && added < count) {
+            final long key = ((long) blockRows[order[placed]] << 32) | order[placed];
+            merged[k++] = key < keys[added] ? order[placed++] : (int) keys[added++];
+        }
+        while (placed < order.length) {
+            merged[k++] = order[placed++];
+        }
+        while (added < count) {
+            merged[k++] = (int) keys[added++];
+        }
+        order = merged;
+    }
+
+    /**
+     * creates / reuses the cells of the items intersecting the viewport
+     */
+    private void updateCells() {
+        final List<T> items = getItems();
+        final Bounds viewport = getViewportBounds();
+        final double buffer = viewport.getHeight() / 2;
+        final double top = viewport.getMinY() - buffer;
+        final double bottom = viewport.getMaxY() + buffer;
+        final double left = viewport.getMinX();
+        final double right = viewport.getMaxX();
+        final double maxBlockHeight = maxRowSpan * getCellHeight() + Math.max(0, maxRowSpan - 1) * getVSpacing();
+
+        // find the last item that starts above the viewport bottom
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (getBlockY(order[mid]) < bottom) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // stamp the visible items
+        stamp++;
+        int newCount = 0;
+        for (int k = low - 1; k >= 0; k--) {
+            final int index = order[k];
+            final double blockY = getBlockY(index);
+            if (blockY + maxBlockHeight < top) {
+                break;
+            }
+            final double blockX = getBlockX(index);
+            if (blockY + getBlockHeight(index) > top && blockX < right && blockX + getBlockWidth(index) > left) {
+                visibleStamps[index] = stamp;
+                if (cellsByIndex[index] == null) {
+                    if (newCount == newIndices.length) {
+                        newIndices = Arrays.copyOf(newIndices, newCount * 2);
+                    }
+                    newIndices[newCount++] = index;
+                }
+            }
+        }
+
+        // release the cells of the hidden items
+        for (int i = activeCells.size() - 1; i >= 0; i--) {
+            final JFXMasonryCell<T> cell = activeCells.get(i);
+            final int index = cell.getIndex();
+            if (visibleStamps[index] != stamp) {
+                cellsByIndex[index] = null;
+                activeCells.set(i, activeCells.get(activeCells.size() - 1));
+                activeCells.remove(activeCells.size() - 1);
+                releaseCell(cell);
+            }
+        }
+
+        // create / reuse the cells of the shown items
+        for (int k = 0; k < newCount; k++) {
+            final int index = newIndices[k];
+            JFXMasonryCell<T> cell = cellsPool.poll();
+            if (cell == null) {
+                cell = createCell();
+                getChildren().add(cell);
+            }
+            cell.updateMasonryItem(index, items.get(index));
+            cell.setVisible(true);
+            cellsByIndex[index] = cell;
+            activeCells.add(cell);
+        }
+
+        for (JFXMasonryCell<T> cell : activeCells) {
+            final int index = cell.getIndex();
+            cell.resizeRelocate(getBlockX(index), getBlockY(index), getBlockWidth(index), getBlockHeight(index));
+        }
+    }
+
+    private JFXMasonryCell<T> createCell() {
+        final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> factory = getCellFactory();
+        final JFXMasonryCell<T> cell = factory == null ? null : factory.call(this);
+        return cell == null ? new JFXMasonryCell<>() : cell;
+    }
+
+    private void releaseCell(JFXMasonryCell<T> cell) {
+        cell.updateMasonryItem(-1, null);
+        cell.setVisible(false);
+        cellsPool.push(cell);
+    }
+
+    /**
+     * releases all active cells
+     *
+     * @param reuse if false the cells are removed
+     */
+    private void releaseCells(boolean reuse) {
+        for (JFXMasonryCell<T> cell : activeCells) {
+            final int index = cell.getIndex();
+            if (index >= 0 && index < cellsByIndex.length) {
+                cellsByIndex[index] = null;
+            }
+            releaseCell(cell);
+        }
+        activeCells.clear();
+        if (!reuse) {
+            cellsPool.clear();
+            getChildren().clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JFXMasonryCell<T>[] newCellsArray(int size) {
+        return new JFXMasonryCell[size];
+    }
+
+    private void ensureCapacity(int size) {
+        if (blockRows.length < size) {
+            final int capacity = Math.max(size, blockRows.length * 2);
+            blockRows = Arrays.copyOf(blockRows, capacity);
+            blockColumns = Arrays.copyOf(blockColumns, capacity);
+            blockRowSpans = Arrays.copyOf(blockRowSpans, capacity);
+            blockColumnSpans = Arrays.copyOf(blockColumnSpans, capacity);
+            visibleStamps = Arrays.copyOf(visibleStamps, capacity);
+            cellsByIndex = Arrays.copyOf(cellsByIndex, capacity);
+        }
+    }
+
+    private void updateSizer(T item) {
+        setBlockSize(sizer, item);
+    }
+
+    private void setBlockSize(Region block, T item) {
+        final Callback<T, Dimension2D> blockSizeFactory = getBlockSizeFactory();
+        final Dimension2D size = blockSizeFactory == null ? null : blockSizeFactory.call(item);
+        if (size == null) {
+            block.setPrefSize(getCellWidth(), getCellHeight());
+        } else {
+            block.setPrefSize(size.getWidth(), size.getHeight());
+        }
+    }
+
+    private int getRowsNeeded(T item) {
+        updateSizer(item);
+        return getLayoutMode().getRowsNeeded(sizer, getCellHeight(), getVSpacing());
+    }
+
+    private double getBlockX(int index) {
+        return blockColumns[index] * (getCellWidth() + getHSpacing()) + snappedLeftInset();
+    }
+
+    private double getBlockY(int index) {
+        return blockRows[index] * (getCellHeight() + getVSpacing()) + snappedTopInset();
+    }
+
+    private double getBlockWidth(int index) {
+        return blockColumnSpans[index] * getCellWidth() + (blockColumnSpans[index] - 1) * getHSpacing();
+    }
+
+    private double getBlockHeight(int index) {
+        return blockRowSpans[index] * getCellHeight() + (blockRowSpans[index] - 1) * getVSpacing();
+    }
+
+    /**
+     * @return the visible bounds of the pane in the enclosing scroll pane, or the pane
+     * layout bounds if it's not inside a scroll pane
+     */
+    private Bounds getViewportBounds() {
+        final Node content = scrollPane == null ? null : scrollPane.getContent();
+        if (content == null) {
+            return getLayoutBounds();
+        }
+        final Bounds viewport = scrollPane.getViewportBounds();
+        final Bounds contentBounds = content.getLayoutBounds();
+        final double hRange = scrollPane.getHmax() - scrollPane.getHmin();
+        final double vRange = scrollPane.getVmax() - scrollPane.getVmin();
+        final double x = Math.max(0, contentBounds.getWidth() - viewport.getWidth())
+                         * (hRange > 0 ? (scrollPane.getHvalue() - scrollPane.getHmin()) / hRange : 0);
+        final double y = Math.max(0, contentBounds.getHeight() - viewport.getHeight())
+                         * (vRange > 0 ? (scrollPane.getVvalue() - scrollPane.getVmin()) / vRange : 0);
+        // the pane position in the scroll pane content
+        final Point2D origin = content.sceneToLocal(localToScene(0, 0));
+        if (origin == null) {
+            return getLayoutBounds();
+        }
+        return new BoundingBox(contentBounds.getMinX() + x - origin.getX(),
+            contentBounds.getMinY() + y - origin.getY(),
+            viewport.getWidth(), viewport.getHeight());
+    }
+
+    /**
+     * listen to the viewport changes of the enclosing scroll pane
+     */
+    private void updateScrollPane() {
+        Parent parent = getParent();
+        while (parent != null && !(parent instanceof ScrollPane)) {
+            parent = parent.getParent();
+        }
+        final ScrollPane newScrollPane = (ScrollPane) parent;
+        if (newScrollPane != scrollPane) {
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().removeListener(weakViewportListener);
+                scrollPane.hvalueProperty().removeListener(weakViewportListener);
+                scrollPane.viewportBoundsProperty().removeListener(weakViewportListener);
+            }
+            scrollPane = newScrollPane;
+            // weak listeners, so the scroll pane doesn't keep a removed pane
+            if (scrollPane != null) {
+                scrollPane.vvalueProperty().addListener(weakViewportListener);
+                scrollPane.hvalueProperty().addListener(weakViewportListener);
+                scrollPane.viewportBoundsProperty().addListener(weakViewportListener);
+            }
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return snappedLeftInset() + getCellWidth() + snappedRightInset() + 2 * getHSpacing();
+    }
+
+    /**
+     * forces the pane to recompute the items blocks on the next layout pass
+     */
+    public final void clearLayout() {
+        dirty = true;
+        requestLayout();
+    }
+
+    /**
+     * forces the pane to update the cells of the shown items on the next layout pass
+     */
+    public final void refresh() {
+        releaseCells(true);
+        requestLayout();
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * the items of the masonry pane
+     */
+    private ObjectProperty<ObservableList<T>> items = new SimpleObjectProperty<ObservableList<T>>() {
+        private ObservableList<T> oldItems;
+
+        @Override
+        protected void invalidated() {
+            if (oldItems != null) {
+                oldItems.removeListener(weakItemsListener);
+            }
+            oldItems = get();
+            if (oldItems != null) {
+                oldItems.addListener(weakItemsListener);
+            }
+            clearLayout();
+        }
+    };
+
+    public final ObjectProperty<ObservableList<T>> itemsProperty() {
+        return this.items;
+    }
+
+    public final ObservableList<T> getItems() {
+        return this.itemsProperty().get();
+    }
+
+    public final void setItems(final ObservableList<T> items) {
+        this.itemsProperty().set(items);
+    }
+
+    /**
+     * the cell factory used to create the cells of the shown items
+     */
+    private ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactory =
+        new SimpleObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>>() {
+            @Override
+            protected void invalidated() {
+                releaseCells(false);
+                requestLayout();
+            }
+        };
+
+    public final ObjectProperty<Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>>> cellFactoryProperty() {
+        return this.cellFactory;
+    }
+
+    public final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> getCellFactory() {
+        return this.cellFactoryProperty().get();
+    }
+
+    public final void setCellFactory(final Callback<JFXVirtualMasonryPane<T>, JFXMasonryCell<T>> cellFactory) {
+        this.cellFactoryProperty().set(cellFactory);
+    }
+
+    /**
+     * returns the block size (width / height) of an item, the blocks are computed
+     * without creating cells. if not set or it returns null, the item will use
+     * one cell of the grid.
+     */
+    private ObjectProperty<Callback<T, Dimension2D>> blockSizeFactory = new SimpleObjectProperty<Callback<T, Dimension2D>>() {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final ObjectProperty<Callback<T, Dimension2D>> blockSizeFactoryProperty() {
+        return this.blockSizeFactory;
+    }
+
+    public final Callback<T, Dimension2D> getBlockSizeFactory() {
+        return this.blockSizeFactoryProperty().get();
+    }
+
+    public final void setBlockSizeFactory(final Callback<T, Dimension2D> blockSizeFactory) {
+        this.blockSizeFactoryProperty().set(blockSizeFactory);
+    }
+
+    /**
+     * the layout mode of the masonry pane
+     */
+    private ObjectProperty<LayoutMode> layoutMode = new SimpleObjectProperty<LayoutMode>(LayoutMode.MASONRY) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final ObjectProperty<LayoutMode> layoutModeProperty() {
+        return this.layoutMode;
+    }
+
+    public final LayoutMode getLayoutMode() {
+        return this.layoutModeProperty().get();
+    }
+
+    public final void setLayoutMode(final LayoutMode layoutMode) {
+        this.layoutModeProperty().set(layoutMode);
+    }
+
+    /**
+     * the cell width of masonry grid
+     */
+    private DoubleProperty cellWidth = new SimpleDoubleProperty(70) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final DoubleProperty cellWidthProperty() {
+        return this.cellWidth;
+    }
+
+    public final double getCellWidth() {
+        return this.cellWidthProperty().get();
+    }
+
+    public final void setCellWidth(final double cellWidth) {
+        this.cellWidthProperty().set(cellWidth);
+    }
+
+    /**
+     * the cell height of masonry grid
+     */
+    private DoubleProperty cellHeight = new SimpleDoubleProperty(70) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final DoubleProperty cellHeightProperty() {
+        return this.cellHeight;
+    }
+
+    public final double getCellHeight() {
+        return this.cellHeightProperty().get();
+    }
+
+    public final void setCellHeight(final double cellHeight) {
+        this.cellHeightProperty().set(cellHeight);
+    }
+
+    /**
+     * horizontal spacing between blocks in the grid
+     */
+    private DoubleProperty hSpacing = new SimpleDoubleProperty(5) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final DoubleProperty hSpacingProperty() {
+        return this.hSpacing;
+    }
+
+    public final double getHSpacing() {
+        return this.hSpacingProperty().get();
+    }
+
+    public final void setHSpacing(final double spacing) {
+        this.hSpacingProperty().set(spacing);
+    }
+
+    /**
+     * vertical spacing between blocks in the grid
+     */
+    private DoubleProperty vSpacing = new SimpleDoubleProperty(5) {
+        @Override
+        protected void invalidated() {
+            clearLayout();
+        }
+    };
+
+    public final DoubleProperty vSpacingProperty() {
+        return this.vSpacing;
+    }
+
+    public final double getVSpacing() {
+        return this.vSpacingProperty().get();
+    }
+
+    public final void setVSpacing(final double spacing) {
+        this.vSpacingProperty().set(spacing);
+    }
+
+    /**
+     * limit the grid columns to certain number
+     */
+    private IntegerProperty limitColumn = new SimpleIntegerProperty(-1) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    public final IntegerProperty limitColumnProperty() {
+        return this.limitColumn;
+    }
+
+    /**
+     * @return -1 if no limit on grid columns, else returns the maximum number of columns to be used in the grid
+     */
+    public final int getLimitColumn() {
+        return this.limitColumnProperty().get();
+    }
+
+    public final void setLimitColumn(final int limitColumn) {
+        this.limitColumnProperty().set(limitColumn);
+    }
+
+    /**
+     * Initialize the style class to 'jfx-virtual-masonry-pane'.
+     * <p>
+     * This is the selector class from which CSS can be used to style
+     * this control.
+     */
+    private static final String DEFAULT_STYLE_CLASS = "jfx-virtual-masonry-pane";
+}
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.controls.datamodels.treetable.PagedDataProvider;
+import com.jfoenix.controls.datamodels.treetable.PagedQuery;
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * PagedTreeItem is a root tree item backed by a {@link PagedDataProvider}, it's used
+ * to browse large datasets in a {@link JFXTreeTableView} without loading them.
+ * <p>
+ * The tree table view reports the rows shown by its virtual flow, only the pages
+ * of these rows (plus a prefetch margin) are fetched from the provider, and kept in
+ * a LRU page cache. Each row is represented by a lightweight tree item, its value is
+ * null until its page is loaded, and is cleared once its page is evicted from the cache.
+ * <p>
+ * Filtering and sorting are pushed down to the provider, the tree table view sort order
+ * is forwarded to the provider instead of sorting the tree items.
+ *
+ * @param <T> is the concrete object of the Tree table
+ */
+public class PagedTreeItem<T> extends TreeItem<T> {
+
+    private final PagedDataProvider<T> provider;
+    private final int pageSize;
+    private final int maxCachedPages;
+
+    private PagedQuery<T> query = new PagedQuery<>(null, null);
+    // incremented whenever the query changes, to drop outdated pages
+    private long queryVersion = 0;
+
+    private final Map<Integer, List<T>> pages;
+    private final Set<Integer> loadingPages = new HashSet<>();
+
+    private int firstVisibleRow = 0;
+    private int lastVisibleRow = -1;
+
+    private Executor fetchExecutor;
+
+    /**
+     * creates a paged tree item with a page size of 100 rows and a cache of 20 pages
+     *
+     * @param provider the data provider
+     */
+    public PagedTreeItem(PagedDataProvider<T> provider) {
+        this(provider, 100, 20);
+    }
+
+    /**
+     * @param provider       the data provider
+     * @param pageSize       number of rows fetched at once
+     * @param maxCachedPages maximum number of pages kept in memory
+     */
+    public PagedTreeItem(PagedDataProvider<T> provider, int pageSize, int maxCachedPages) {
+        this.provider = provider;
+        this.pageSize = pageSize;
+        this.maxCachedPages = maxCachedPages;
+        this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                if (size() > PagedTreeItem.this.maxCachedPages) {
+                    clearPage(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        setExpanded(true);
+        filter.addListener(observable -> setQuery(new PagedQuery<>(getFilter(), query.getSortKeys())));
+        refresh();
+    }
+
+    /**
+     * the number of rows matching the current query, it's updated
+     * asynchronously once the provider counted the rows
+     */
+    private final ReadOnlyIntegerWrapper rowCount = new ReadOnlyIntegerWrapper(this, "rowCount", 0);
+
+    public final ReadOnlyIntegerProperty rowCountProperty() {
+        return rowCount.getReadOnlyProperty();
+    }
+
+    public final int getRowCount() {
+        return rowCount.get();
+    }
+
+    /**
+     * the last error thrown while fetching a page from the provider, the rows
+     * of the failed page are fetched again once they are shown
+     */
+    private final ReadOnlyObjectWrapper<Throwable> fetchError = new ReadOnlyObjectWrapper<>(this, "fetchError");
+
+    public final ReadOnlyObjectProperty<Throwable> fetchErrorProperty() {
+        return fetchError.getReadOnlyProperty();
+    }
+
+    public final Throwable getFetchError() {
+        return fetchError.get();
+    }
+
+    /**
+     * reloads the row count and the visible pages from the provider
+     */
+    public void refresh() {
+        final long version = ++queryVersion;
+        final PagedQuery<T> currentQuery = query;
+        getFetchExecutor().execute(() -> {
+            final int count = provider.count(currentQuery);
+            Platform.runLater(() -> {
+                if (version != queryVersion) {
+                    return;
+                }
+                // reuse the row tree items, only the rows of the cached pages have values
+                for (Integer page : pages.keySet()) {
+                    clearPage(page);
+                }
+                pages.clear();
+                loadingPages.clear();
+                final List<TreeItem<T>> items = getChildren();
+                if (count < items.size()) {
+                    items.remove(count, items.size());
+                } else if (count > items.size()) {
+                    List<TreeItem<T>> rows = new ArrayList<>(count - items.size());
+                    for (int i = items.size(); i < count; i++) {
+                        rows.add(new TreeItem<>());
+                    }
+                    items.addAll(rows);
+                }
+                rowCount.set(count);
+                loadPages();
+            });
+        });
+    }
+
+    /**
+     * sets the visible rows of the tree table view, the pages of these rows
+     * and the prefetch margin are loaded if not cached
+     *
+     * @param first index of the first visible row
+     * @param last  index of the last visible row
+     */
+    public void setVisibleRange(int first, int last) {
+        if (first == firstVisibleRow && last == lastVisibleRow) {
+            return;
+        }
+        firstVisibleRow = first;
+        lastVisibleRow = last;
+        loadPages();
+    }
+
+    void setSortOrder(List<TreeTableColumn<T, ?>> sortOrder) {
+        List<PagedQuery.SortKey> sortKeys = new ArrayList<>();
+        for (TreeTableColumn<T, ?> column : sortOrder) {
+            sortKeys.add(new PagedQuery.SortKey(column.getId() == null ? column.getText() : column.getId(),
+                column.getSortType()));
+        }
+        setQuery(new PagedQuery<>(query.getFilter(), sortKeys));
+    }
+
+    private void setQuery(PagedQuery<T> query) {
+        this.query = query;
+        refresh();
+    }
+
+    private void loadPages() {
+        if (getRowCount() == 0 || lastVisibleRow < firstVisibleRow) {
+            return;
+        }
+        final int margin = getPrefetchMargin();
+        final int firstPage = Math.max(0, firstVisibleRow - margin) / pageSize;
+        final int lastPage = Math.min(getRowCount() - 1, lastVisibleRow + margin) / pageSize;
+        for (int page = firstPage; page <= lastPage; page++) {
+            // also refreshes the page in the LRU cache
+            if (pages.get(page) == null && loadingPages.add(page)) {
+                fetchPage(page);
+            }
+        }
+    }
+
+    private void fetchPage(int page) {
+        final long version = queryVersion;
+        final PagedQuery<T> currentQuery = query;
+        getFetchExecutor().execute(() -> {
+            final List<T> rows;
+            try {
+                rows = Objects.requireNonNull(provider.fetch(currentQuery, page * pageSize, pageSize),
+                    "the provider returned no rows for page " + page);
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    if (version != queryVersion) {
+                        return;
+                    }
+                    // allow the page to be fetched again
+                    loadingPages.remove(page);
+                    fetchError.set(e);
+                });
+                return;
+            }
+            Platform.runLater(() -> {
+                if (version != queryVersion) {
+                    return;
+                }
+                loadingPages.remove(page);
+                final int offset = page * pageSize;
+                final List<TreeItem<T>> items = getChildren();
+                for (int i = 0; i < rows.size() && offset + i < items.size(); i++) {
+                    items.get(offset + i).setValue(rows.get(i));
+                }
+                pages.put(page, rows);
+            });
+        });
+    }
+
+    private void clearPage(int page) {
+        final List<TreeItem<T>> items = getChildren();
+        final int end = Math.min(items.size(), (page + 1) * pageSize);
+        for (int i = page * pageSize; i < end; i++) {
+            items.get(i).setValue(null);
+        }
+    }
+
+    private Executor getFetchExecutor() {
+        if (fetchExecutor == null) {
+            fetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("PagedTreeItem Fetch Thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return fetchExecutor;
+    }
+
+    /**
+     * sets the executor used to call the data provider
+     *
+     * @param fetchExecutor
+     */
+    public void setFetchExecutor(Executor fetchExecutor) {
+        this.fetchExecutor = fetchExecutor;
+    }
+
+    /**
+     * filter pushed down to the data provider
+     */
+    private ObjectProperty<Predicate<T>> filter = new SimpleObjectProperty<>();
+
+    public final ObjectProperty<Predicate<T>> filterProperty() {
+        return this.filter;
+    }
+
+    public final Predicate<T> getFilter() {
+        return this.filterProperty().get();
+    }
+
+    public final void setFilter(final Predicate<T> filter) {
+        this.filterProperty().set(filter);
+    }
+
+    /**
+     * number of rows loaded before / after the visible rows
+     */
+    private int prefetchMargin = 50;
+
+    public final int getPrefetchMargin() {
+        return prefetchMargin;
+    }
+
+    public final void setPrefetchMargin(int prefetchMargin) {
+        this.prefetchMargin = prefetchMargin;
+    }
+}
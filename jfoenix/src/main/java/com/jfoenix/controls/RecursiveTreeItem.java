@@ -21,7 +21,13 @@ package com.jfoenix.controls;
 
 import com.jfoenix.controls.datamodels.treetable.RecursiveTreeObject;
 import com.jfoenix.utils.JFXUtilities;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -32,13 +38,22 @@ import javafx.scene.control.TreeItem;
 import javafx.util.Callback;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 /**
  * RecursiveTreeItem is used along with RecursiveTreeObject
  * to build the data model for the TreeTableView.
+ * <p>
+ * The filtering state, listeners and child lists of a tree item are only
+ * allocated once it gets children, so lazy tree items are lightweight
+ * for the leaf rows of flat tables.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -51,7 +66,19 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
     /**
      * predicate used to filter nodes
      */
-    private ObjectProperty<Predicate<TreeItem<T>>> predicate = new SimpleObjectProperty<>((TreeItem<T> t) -> true);
+    private static final Predicate<TreeItem<?>> DEFAULT_PREDICATE = t -> true;
+
+    @SuppressWarnings("unchecked")
+    private static <T> Predicate<TreeItem<T>> defaultPredicate() {
+        return (Predicate<TreeItem<T>>) (Predicate<?>) DEFAULT_PREDICATE;
+    }
+
+    /**
+     * the data items of unloaded lazy tree items are tested using a detached tree item
+     * (it has no parent) that is reused for the tests of a pass, so the predicate
+     * should only depend on the value of the tested tree item
+     */
+    private ObjectProperty<Predicate<TreeItem<T>>> predicate;
 
     /**
      * map data value to tree item
@@ -68,6 +95,55 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      */
     FilteredList<TreeItem<T>> filteredItems;
 
+    /**
+     * the object used to retrieve the children if the tree item has no value,
+     * and the backing children list
+     */
+    private RecursiveTreeObject<T> childrenSource;
+    private ObservableList<T> childrenList;
+    private ListChangeListener<T> childrenListener;
+    private boolean valueListenerAdded = false;
+
+    /**
+     * whether the child tree items are created
+     */
+    private boolean childrenLoaded = false;
+
+    /**
+     * whether the current predicate change is a refinement of the previous predicate
+     */
+    private boolean refiningPredicate = false;
+
+    /**
+     * whether the filtered items are being updated by an incremental filter pass
+     */
+    private boolean incrementalPass = false;
+
+    /**
+     * children accepted by the last incremental filter pass, children added afterwards
+     * are tested and added to it, null if the children were filtered by the predicate
+     */
+    private Set<TreeItem<T>> acceptedItems;
+
+    /**
+     * children accepted by a running incremental filter pass, until they are published
+     */
+    private Set<TreeItem<T>> pendingAcceptedItems;
+
+    /**
+     * whether the predicate is only stored, as the children are filtered by the parent pass
+     */
+    private boolean storingPredicate = false;
+
+    /**
+     * used by the tree table view to abort outdated filter passes
+     */
+    BooleanSupplier filterCancelled;
+
+    private boolean isFilterCancelled() {
+        return filterCancelled != null && filterCancelled.getAsBoolean();
+    }
+
     /***************************************************************************
      *                                                                         *
      * Constructors                                                            *
@@ -101,8 +177,22 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func    is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(value, graphic, func, false);
+    }
+
+    /**
+     * creates recursive tree item for a specified value and a graphic node
+     *
+     * @param value   of the tree item
+     * @param graphic node
+     * @param func    is the callback used to retrieve the children of the current tree item
+     * @param lazy    whether the child tree items are created on demand, see {@link #isLazy()}
+     */
+    public RecursiveTreeItem(final T value, Node graphic, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
         super(value, graphic);
         this.childrenFactory = func;
+        this.lazy = lazy;
         init(value);
     }
 
@@ -113,119 +203,799 @@ public class RecursiveTreeItem<T extends RecursiveTreeObject<T>> extends TreeIte
      * @param func     is the callback used to retrieve the children of the current tree item
      */
     public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func) {
+        this(dataList, func, false);
+    }
+
+    /**
+     * creates recursive tree item from a data list
+     *
+     * @param dataList of values
+     * @param func     is the callback used to retrieve the children of the current tree item
+     * @param lazy     whether the child tree items are created on demand, see {@link #isLazy()}
+     */
+    public RecursiveTreeItem(ObservableList<T> dataList, Callback<RecursiveTreeObject<T>, ObservableList<T>> func,
+                             boolean lazy) {
         RecursiveTreeObject<T> root = new RecursiveTreeObject<>();
         root.setChildren(dataList);
         this.childrenFactory = func;
+        this.lazy = lazy;
         init(root);
     }
 
     private void init(RecursiveTreeObject<T> value) {
+        if (value != getValue()) {
+            childrenSource = value;
+        }
+        if (!lazy) {
+            addChildrenListener(value);
+        }
+    }
 
-        addChildrenListener(value);
+    private RecursiveTreeObject<T> getChildrenSource() {
+        return getValue() != null ? getValue() : childrenSource;
+    }
 
-        valueProperty().addListener(observable -> {
-            if (getValue() != null) {
-                addChildrenListener(getValue());
-            }
-        });
+    private void onPredicateChanged() {
+        if (!childrenLoaded) {
+            // the predicate is applied once the children are created
+            updateSourceItemsCount();
+            return;
+        }
+        if (storingPredicate) {
+            return;
+        }
+        applyPredicate();
+    }
 
-        predicate.addListener(observable -> {
-            filteredItems.setPredicate(child -> {
-                // Set the predicate of child items to force filtering
-                if (child instanceof RecursiveTreeItem) {
-                    if (!((RecursiveTreeItem) child).originalItems.isEmpty()) {
-                        RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
-                        filterableChild.setPredicate(predicate.get());
+    /*
+     * filters the children of the tree item using the current predicate
+     */
+    private void applyPredicate() {
+        if (isIncrementalFilter()) {
+            filterIncrementally();
+            return;
+        }
+        acceptedItems = null;
+        final TreeItem<T> probe = new TreeItem<>();
+        filteredItems.setPredicate(child -> {
+            // skip the remaining items of a cancelled filter pass
+            if (isFilterCancelled()) {
+                return true;
+            }
+            // Set the predicate of child items to force filtering
+            if (child instanceof RecursiveTreeItem) {
+                if (((RecursiveTreeItem) child).isFilterable()) {
+                    RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
+                    filterableChild.filterCancelled = filterCancelled;
+                    try {
+                        filterableChild.setPredicate(getPredicate());
+                    } finally {
+                        filterableChild.filterCancelled = null;
                     }
                 }
-                // If there is no predicate, keep this tree item
-                if (predicate.get() == null) {
-                    return true;
-                }
-                // If there are children, keep this tree item
-                if (child.getChildren().size() > 0) {
+            }
+            // If there is no predicate, keep this tree item
+            if (getPredicate() == null) {
+                return true;
+            }
+            // If there are children, keep this tree item
+            if (isUnloaded(child)) {
+                // test the data of unloaded children instead of creating their tree items
+                if (((RecursiveTreeItem<T>) child).hasAcceptedItems(getPredicate(), filterCancelled, probe)) {
                     return true;
                 }
-                // If its a group node keep this item if it has children
-                if (child.getValue() instanceof RecursiveTreeObject &&
-                    child.getValue().getClass() == RecursiveTreeObject.class) {
-                    return child.getChildren().size() != 0;
-                }
-                // Otherwise ask the TreeItemPredicate
-                return predicate.get().test(child);
-            });
+            } else if (!child.isLeaf() && child.getChildren().size() > 0) {
+                return true;
+            }
+            // If its a group node keep this item if it has children
+            if (child.getValue() instanceof RecursiveTreeObject &&
+                child.getValue().getClass() == RecursiveTreeObject.class) {
+                return child.getChildren().size() != 0;
+            }
+            // Otherwise ask the TreeItemPredicate
+            return getPredicate().test(child);
         });
+    }
 
-        this.filteredItems.predicateProperty().addListener(observable ->
-            JFXUtilities.runInFXAndWait(() -> {
-                getChildren().clear();
-                getChildren().setAll(filteredItems);
-            }));
+    /*
+     * runs an incremental filter pass starting from this tree item
+     * and records its cost
+     */
+    private void filterIncrementally() {
+        final long start = System.nanoTime();
+        final IncrementalFilterPass<T> pass = new IncrementalFilterPass<>(getPredicate(), refiningPredicate, filterCancelled);
+        applyIncrementalFilter(pass);
+        if (pass.isCancelled()) {
+            return;
+        }
+        // publish the results of all the filtered tree items at once
+        JFXUtilities.runInFXAndWait(() -> {
+            pass.publish();
+            filterTestCountWrapper().set(pass.tests);
+            filterDurationWrapper().set(System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * state of an incremental filter pass. The accepted children of the filtered tree items
+     * are computed off the FX application thread, then published in a single FX pulse.
+     */
+    private static final class IncrementalFilterPass<T extends RecursiveTreeObject<T>> {
+        private final Predicate<TreeItem<T>> filter;
+        private final boolean refine;
+        private final BooleanSupplier cancelled;
+        private final List<RecursiveTreeItem<T>> filteredTreeItems = new ArrayList<>();
+        private final TreeItem<T> probe = new TreeItem<>();
+        private int tests = 0;
+
+        private IncrementalFilterPass(Predicate<TreeItem<T>> filter, boolean refine, BooleanSupplier cancelled) {
+            this.filter = filter;
+            this.refine = refine;
+            this.cancelled = cancelled;
+        }
+
+        private boolean isCancelled() {
+            return cancelled != null && cancelled.getAsBoolean();
+        }
+
+        private void publish() {
+            // nested tree items are published before their parents
+            for (RecursiveTreeItem<T> item : filteredTreeItems) {
+                item.publishAcceptedItems();
+            }
+        }
+    }
+
+    /**
+     * filters the children of this tree item using the predicate of the pass.
+     * when refining, only the currently visible children are tested again,
+     * as a stricter predicate can not accept a child that is already hidden.
+     *
+     * @param pass the incremental filter pass
+     */
+    private void applyIncrementalFilter(IncrementalFilterPass<T> pass) {
+        pendingAcceptedItems = null;
+        final List<TreeItem<T>> candidates = pass.refine ? new ArrayList<>(getChildren()) : originalItems;
+        final Set<TreeItem<T>> accepted = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TreeItem<T> child : candidates) {
+            if (pass.isCancelled()) {
+                return;
+            }
+            if (acceptsChild(child, pass)) {
+                accepted.add(child);
+            }
+        }
+        if (pass.isCancelled()) {
+            return;
+        }
+        pendingAcceptedItems = accepted;
+        pass.filteredTreeItems.add(this);
+    }
+
+    /*
+     * tests a child of this tree item in an incremental filter pass,
+     * nested tree items are filtered by the same pass
+     */
+    private boolean acceptsChild(TreeItem<T> child, IncrementalFilterPass<T> pass) {
+        final Predicate<TreeItem<T>> filter = pass.filter;
+        if (child instanceof RecursiveTreeItem && ((RecursiveTreeItem) child).isFilterable()) {
+            RecursiveTreeItem<T> filterableChild = (RecursiveTreeItem<T>) child;
+            // keep the predicate of the child, so it's applied once its children are (re)created
+            filterableChild.storingPredicate = true;
+            try {
+                filterableChild.setPredicate(filter);
+            } finally {
+                filterableChild.storingPredicate = false;
+            }
+            if (isUnloaded(child)) {
+                // test the data of unloaded children instead of creating their tree items
+                pass.tests++;
+                return filter == null || filterableChild.hasAcceptedItems(filter, pass.cancelled, pass.probe);
+            }
+            filterableChild.applyIncrementalFilter(pass);
+            return filter == null
+                   || (filterableChild.pendingAcceptedItems != null && !filterableChild.pendingAcceptedItems.isEmpty());
+        } else if (filter == null || !child.isLeaf()) {
+            return true;
+        } else if (!(child.getValue() instanceof RecursiveTreeObject
+                     && child.getValue().getClass() == RecursiveTreeObject.class)) {
+            pass.tests++;
+            return filter.test(child);
+        }
+        return false;
+    }
+
+    /*
+     * applies the accepted children of an incremental filter pass,
+     * must be called from the FX application thread
+     */
+    private void publishAcceptedItems() {
+        final Set<TreeItem<T>> accepted = pendingAcceptedItems;
+        pendingAcceptedItems = null;
+        if (accepted == null || !childrenLoaded) {
+            // the children were released while filtering
+            return;
+        }
+        acceptedItems = accepted;
+        incrementalPass = true;
+        try {
+            filteredItems.setPredicate(accepted::contains);
+        } finally {
+            incrementalPass = false;
+        }
+        updateVisibleChildren(accepted);
+    }
+
+    /*
+     * filters the children added after the last incremental filter pass
+     * the same way the pass did, the accepted children are added to the accepted items
+     * so they are kept by the filtered items
+     *
+     * @return the accepted children
+     */
+    private List<TreeItem<T>> filterAddedChildren(List<TreeItem<T>> addedItems) {
+        final IncrementalFilterPass<T> pass = new IncrementalFilterPass<>(getPredicate(), false, null);
+        final List<TreeItem<T>> accepted = new ArrayList<>();
+        for (TreeItem<T> child : addedItems) {
+            if (acceptsChild(child, pass)) {
+                accepted.add(child);
+            }
+        }
+        pass.publish();
+        acceptedItems.addAll(accepted);
+        return accepted;
+    }
+
+    /*
+     * whether the item is a tree item whose child tree items are not created yet
+     */
+    private static boolean isUnloaded(TreeItem<?> item) {
+        return item instanceof RecursiveTreeItem && !((RecursiveTreeItem<?>) item).childrenLoaded;
+    }
+
+    /*
+     * checks whether the data subtree of this unloaded tree item has items accepted
+     * by the filter. Filter passes don't run on the FX application thread, so the data
+     * items are tested using the detached probe tree item instead of creating the child tree items.
+     */
+    private boolean hasAcceptedItems(Predicate<TreeItem<T>> filter, BooleanSupplier cancelled, TreeItem<T> probe) {
+        final RecursiveTreeObject<T> source = getChildrenSource();
+        return hasSourceChildren(source) && hasAcceptedItems(source, filter, cancelled, probe);
+    }
+
+    private boolean hasAcceptedItems(RecursiveTreeObject<T> source, Predicate<TreeItem<T>> filter,
+                                     BooleanSupplier cancelled, TreeItem<T> probe) {
+        for (T child : childrenFactory.call(source)) {
+            if (cancelled != null && cancelled.getAsBoolean()) {
+                return false;
+            }
+            if ((hasSourceChildren(child) && hasAcceptedItems(child, filter, cancelled, probe))
+                || testProbe(filter, probe, child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> boolean testProbe(Predicate<TreeItem<T>> filter, TreeItem<T> probe, T value) {
+        probe.setValue(value);
+        return filter.test(probe);
+    }
+
+    /*
+     * whether the data object has children, without creating its tree items
+     * nor the children list of data objects that have no children
+     */
+    private boolean hasSourceChildren(RecursiveTreeObject<T> source) {
+        return childrenFactory != null && source != null && source.hasChildren();
+    }
+
+    /*
+     * applies the minimal set of remove/add changes to the children list,
+     * the current order of the visible children is preserved (e.g. sorted children)
+     */
+    private void updateVisibleChildren(Set<TreeItem<T>> accepted) {
+        final ObservableList<TreeItem<T>> children = getChildren();
+        // remove rejected children, in contiguous ranges starting from the end
+        int end = children.size();
+        while (end > 0) {
+            if (accepted.contains(children.get(end - 1))) {
+                end--;
+                continue;
+            }
+            int start = end - 1;
+            while (start > 0 && !accepted.contains(children.get(start - 1))) {
+                start--;
+            }
+            children.remove(start, end);
+            end = start;
+        }
+
+        if (children.size() == accepted.size()) {
+            return;
+        }
+
+        // insert the newly accepted children after their nearest visible predecessor
+        final Map<TreeItem<T>, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < children.size(); i++) {
+            positions.put(children.get(i), i);
+        }
+        final List<Integer> insertPositions = new ArrayList<>();
+        final List<List<TreeItem<T>>> insertBatches = new ArrayList<>();
+        int insertAt = 0;
+        List<TreeItem<T>> batch = null;
+        for (TreeItem<T> item : filteredItems) {
+            Integer position = positions.get(item);
+            if (position != null) {
+                insertAt = position + 1;
+                batch = null;
+            } else {
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                    insertPositions.add(insertAt);
+                    insertBatches.add(batch);
+                }
+                batch.add(item);
+            }
+        }
+        for (int i = insertBatches.size() - 1; i >= 0; i--) {
+            children.addAll(insertPositions.get(i), insertBatches.get(i));
+        }
     }
 
 
     private void addChildrenListener(RecursiveTreeObject<T> value) {
+        if (childrenList != null) {
+            childrenList.removeListener(childrenListener);
+            super.getChildren().clear();
+        }
+        childrenLoaded = true;
+        if (!valueListenerAdded) {
+            valueListenerAdded = true;
+            valueProperty().addListener(observable -> {
+                if (getValue() != null && childrenLoaded) {
+                    addChildrenListener(getValue());
+                }
+            });
+        }
         final ObservableList<T> children = childrenFactory.call(value);
         originalItems = FXCollections.observableArrayList();
         itemsMap = new HashMap<>();
 
         for (T child : children) {
-            final RecursiveTreeItem<T> treeItem = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory);
+            final RecursiveTreeItem<T> treeItem = new RecursiveTreeItem<>(child, getGraphic(), childrenFactory, lazy);
             originalItems.add(treeItem);
             itemsMap.put(child, treeItem);
         }
 
+        acceptedItems = null;
         filteredItems = new FilteredList<>(originalItems, (TreeItem<T> t) -> true);
+        filteredItems.predicateProperty().addListener(observable -> {
+            if (!incrementalPass && !isFilterCancelled()) {
+                JFXUtilities.runInFXAndWait(() -> {
+                    getChildren().clear();
+                    getChildren().setAll(filteredItems);
+                });
+            }
+        });
 
-        this.getChildren().addAll(originalItems);
-
-        children.addListener((ListChangeListener<T>) change -> {
-            while (change.next()) {
-                if (change.wasRemoved()) {
-                    List<TreeItem<T>> removedItems = new ArrayList<>();
-                    for (T t : change.getRemoved()) {
-                        final TreeItem<T> treeItem = itemsMap.remove(t);
-                        if (treeItem != null) {
-                            // remove the items from the current/original items list
-                            removedItems.add(treeItem);
-                        }
-                    }
-                    if (originalItems.size() == removedItems.size()) {
-                        originalItems.clear();
-                        getChildren().clear();
-                    } else {
-                        getChildren().removeAll(removedItems);
-                        originalItems.removeAll(removedItems);
+        if (countListener == null) {
+            countListener = this::onVisibleChildrenChanged;
+            super.getChildren().addListener(countListener);
+        }
+
+        // the items count of an unloaded tree item is counted from its data, so the
+        // ancestors are only updated if the loaded children count differs from it
+        final int sourceCount = itemsCount;
+        itemsCount = 0;
+        updatingChildren = true;
+        try {
+            this.getChildren().addAll(originalItems);
+        } finally {
+            updatingChildren = false;
+        }
+        final int loadedCount = itemsCount;
+        if (sourceCount < 0) {
+            // the tree item was not counted yet
+            setItemsCount(loadedCount);
+        } else {
+            itemsCount = sourceCount;
+            if (loadedCount != sourceCount) {
+                updateItemsCount(loadedCount - sourceCount);
+            }
+        }
+
+        if (childrenListener == null) {
+            childrenListener = this::onChildrenChanged;
+        }
+        childrenList = children;
+        childrenList.addListener(childrenListener);
+    }
+
+    private void onChildrenChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            List<TreeItem<T>> removedItems = new ArrayList<>();
+            List<TreeItem<T>> addedItems = new ArrayList<>();
+            List<TreeItem<T>> updatedItems = new ArrayList<>();
+            if (change.wasRemoved()) {
+                for (T t : change.getRemoved()) {
+                    final TreeItem<T> treeItem = itemsMap.remove(t);
+                    if (treeItem != null) {
+                        // remove the items from the current/original items list
+                        removedItems.add(treeItem);
                     }
                 }
-                if (change.wasAdded()) {
-                    List<RecursiveTreeItem<T>> addedItems = new ArrayList<>();
-                    for (T newChild : change.getAddedSubList()) {
-                        final RecursiveTreeItem<T> newTreeItem = new RecursiveTreeItem<>(newChild, getGraphic(), childrenFactory);
-                        addedItems.add(newTreeItem);
-                        itemsMap.put(newChild, newTreeItem);
+                if (originalItems.size() == removedItems.size()) {
+                    originalItems.clear();
+                    getChildren().clear();
+                } else {
+                    getChildren().removeAll(removedItems);
+                    originalItems.removeAll(removedItems);
+                }
+            }
+            if (change.wasAdded()) {
+                for (T newChild : change.getAddedSubList()) {
+                    final RecursiveTreeItem<T> newTreeItem = new RecursiveTreeItem<>(newChild, getGraphic(), childrenFactory, lazy);
+                    addedItems.add(newTreeItem);
+                    itemsMap.put(newChild, newTreeItem);
+                }
+                // the children filtered incrementally only get the accepted items
+                getChildren().addAll(acceptedItems == null ? addedItems : filterAddedChildren(addedItems));
+                originalItems.addAll(addedItems);
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    final TreeItem<T> treeItem = itemsMap.get(change.getList().get(i));
+                    if (treeItem != null) {
+                        updatedItems.add(treeItem);
                     }
-                    getChildren().addAll(addedItems);
-                    originalItems.addAll(addedItems);
                 }
             }
+            if (itemsChangeListener != null) {
+                itemsChangeListener.onItemsChanged(removedItems, addedItems, updatedItems);
+            }
+        }
+    }
+
+    /*
+     * updates the cached items count of the subtree using the visible children changes
+     */
+    private void onVisibleChildrenChanged(ListChangeListener.Change<? extends TreeItem<T>> change) {
+        int delta = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (TreeItem<T> removed : change.getRemoved()) {
+                delta -= countItems(removed);
+            }
+            for (TreeItem<T> added : change.getAddedSubList()) {
+                delta += countItems(added);
+            }
+        }
+        if (updatingChildren) {
+            itemsCount += delta;
+        } else if (delta != 0) {
+            updateItemsCount(delta);
+        }
+    }
+
+    /*
+     * adds the delta to the items count of this tree item and its ancestors
+     */
+    private void updateItemsCount(int delta) {
+        TreeItem<T> item = this;
+        while (item instanceof RecursiveTreeItem) {
+            final RecursiveTreeItem<T> recursiveItem = (RecursiveTreeItem<T>) item;
+            recursiveItem.setItemsCount(recursiveItem.itemsCount + delta);
+            item = item.getParent();
+        }
+    }
+
+    private void setItemsCount(int count) {
+        itemsCount = count;
+        if (itemsCountWrapper != null) {
+            itemsCountWrapper.set(count);
+        }
+    }
+
+    /*
+     * counts the data items of an unloaded tree item that are accepted by its predicate,
+     * the same way they would be counted once its children are created
+     */
+    private int countSourceItems() {
+        final RecursiveTreeObject<T> source = getChildrenSource();
+        // leaf rows are not counted through the children factory, so their children list isn't created
+        if (!hasSourceChildren(source)) {
+            return 0;
+        }
+        return countSourceItems(source, getPredicate(), new TreeItem<>());
+    }
+
+    private int countSourceItems(RecursiveTreeObject<T> source, Predicate<TreeItem<T>> filter, TreeItem<T> probe) {
+        final boolean filtered = filter != null && filter != defaultPredicate();
+        int count = 0;
+        for (T child : childrenFactory.call(source)) {
+            final int childCount = hasSourceChildren(child) ? countSourceItems(child, filter, probe) : 0;
+            if (!filtered || childCount > 0 || testProbe(filter, probe, child)) {
+                count += childCount + (child.getClass() == RecursiveTreeObject.class ? 0 : 1);
+            }
+        }
+        return count;
+    }
+
+    /*
+     * counts again the data items of an unloaded tree item once its predicate changed,
+     * the count is published to the ancestors on the FX application thread
+     */
+    private void updateSourceItemsCount() {
+        if (itemsCount < 0) {
+            // the tree item was not counted yet
+            return;
+        }
+        final int count = countSourceItems();
+        JFXUtilities.runInFX(() -> {
+            if (!childrenLoaded && count != itemsCount) {
+                updateItemsCount(count - itemsCount);
+            }
         });
+    }
+
+    /**
+     * @param item tree item
+     * @return the number of data items in the visible subtree of the specified item, including
+     * the item itself unless it's a group node
+     */
+    static int countItems(TreeItem<?> item) {
+        if (item == null) {
+            return 0;
+        }
+        int count = item.getValue() == null || item.getValue().getClass() == RecursiveTreeObject.class ? 0 : 1;
+        if (item instanceof RecursiveTreeItem) {
+            return count + ((RecursiveTreeItem<?>) item).getItemsCount();
+        }
+        for (TreeItem<?> child : item.getChildren()) {
+            count += countItems(child);
+        }
+        return count;
+    }
+
+    /*
+     * creates the child tree items if they were not created yet
+     */
+    private void loadChildren() {
+        if (!childrenLoaded && childrenFactory != null && getChildrenSource() != null) {
+            addChildrenListener(getChildrenSource());
+            if (getPredicate() != defaultPredicate()) {
+                applyPredicate();
+            }
+        }
+    }
+
+    /*
+     * whether the tree item has (or might have if not loaded yet) children to be filtered
+     */
+    boolean isFilterable() {
+        return childrenLoaded ? !originalItems.isEmpty() : !isLeaf();
+    }
+
+    FilteredList<TreeItem<T>> getFilteredItems() {
+        loadChildren();
+        return filteredItems;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ObservableList<TreeItem<T>> getChildren() {
+        loadChildren();
+        return super.getChildren();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeaf() {
+        if (!childrenLoaded) {
+            return !hasSourceChildren(getChildrenSource());
+        }
+        return super.isLeaf();
+    }
+
+    /**
+     * releases the child tree items of the collapsed nodes in this subtree, they
+     * will be created again once requested. This method only applies to lazy
+     * tree items and should be called from the FX application thread, e.g. when
+     * the application is running low on memory.
+     */
+    public void releaseCollapsedChildren() {
+        if (!lazy || !childrenLoaded) {
+            return;
+        }
+        if (!isExpanded() && getParent() != null) {
+            childrenList.removeListener(childrenListener);
+            childrenList = null;
+            // keep the items count, releasing the children doesn't change the data
+            final int count = itemsCount;
+            updatingChildren = true;
+            try {
+                super.getChildren().clear();
+            } finally {
+                updatingChildren = false;
+            }
+            itemsCount = count;
+            originalItems = null;
+            filteredItems = null;
+            acceptedItems = null;
+            itemsMap = null;
+            childrenLoaded = false;
+            return;
+        }
+        for (TreeItem<T> child : originalItems) {
+            if (child instanceof RecursiveTreeItem) {
+                ((RecursiveTreeItem<T>) child).releaseCollapsedChildren();
+            }
+        }
+    }
+
+    /**
+     * when lazy, the child tree items are only created once the children of
+     * this tree item are requested (e.g. the tree item is expanded).
+     * Until then, {@link RecursiveTreeObject#hasChildren()} is used to check
+     * whether the tree item is a leaf.
+     */
+    private final boolean lazy;
+
+    public final boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * listener used to notify the tree table view with the items changes
+     * of the backing data list, i.e. to update its groups incrementally
+     */
+    interface ItemsChangeListener<T extends RecursiveTreeObject<T>> {
+        void onItemsChanged(List<TreeItem<T>> removed, List<TreeItem<T>> added, List<TreeItem<T>> updated);
+    }
+
+    ItemsChangeListener<T> itemsChangeListener;
 
+    /**
+     * sets a predicate that accepts a subset of the items accepted by the current
+     * predicate (e.g. the search text got longer). In incremental filter mode
+     * only the currently visible items will be tested again.
+     *
+     * @param predicate the stricter predicate
+     */
+    public final void refinePredicate(final Predicate<TreeItem<T>> predicate) {
+        refiningPredicate = true;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refiningPredicate = false;
+        }
     }
 
     public final ObjectProperty<Predicate<TreeItem<T>>> predicateProperty() {
+        if (this.predicate == null) {
+            this.predicate = new SimpleObjectProperty<Predicate<TreeItem<T>>>(defaultPredicate()) {
+                @Override
+                protected void invalidated() {
+                    onPredicateChanged();
+                }
+            };
+        }
         return this.predicate;
     }
 
     public final Predicate<TreeItem<T>> getPredicate() {
-        return this.predicateProperty().get();
+        return this.predicate == null ? defaultPredicate() : this.predicate.get();
     }
 
     public final void setPredicate(final Predicate<TreeItem<T>> predicate) {
+        if (this.predicate == null && predicate == defaultPredicate()) {
+            return;
+        }
         this.predicateProperty().set(predicate);
     }
 
+    /**
+     * when enabled, predicate changes apply minimal add/remove changes to the children
+     * of the tree item instead of resetting them, and refined predicates
+     * (see {@link #refinePredicate(Predicate)}) only test the items that currently pass.
+     */
+    private BooleanProperty incrementalFilter;
+
+    public final BooleanProperty incrementalFilterProperty() {
+        if (this.incrementalFilter == null) {
+            this.incrementalFilter = new SimpleBooleanProperty(false);
+        }
+        return this.incrementalFilter;
+    }
+
+    public final boolean isIncrementalFilter() {
+        return this.incrementalFilter != null && this.incrementalFilter.get();
+    }
+
+    public final void setIncrementalFilter(final boolean incrementalFilter) {
+        if (this.incrementalFilter == null && !incrementalFilter) {
+            return;
+        }
+        this.incrementalFilterProperty().set(incrementalFilter);
+    }
+
+    /**
+     * number of predicate tests done in the last incremental filter pass
+     */
+    private ReadOnlyIntegerWrapper filterTestCount;
+
+    private ReadOnlyIntegerWrapper filterTestCountWrapper() {
+        if (this.filterTestCount == null) {
+            this.filterTestCount = new ReadOnlyIntegerWrapper(0);
+        }
+        return this.filterTestCount;
+    }
+
+    public final ReadOnlyIntegerProperty filterTestCountProperty() {
+        return this.filterTestCountWrapper().getReadOnlyProperty();
+    }
+
+    public final int getFilterTestCount() {
+        return this.filterTestCount == null ? 0 : this.filterTestCount.get();
+    }
+
+    /**
+     * duration in nanoseconds of the last incremental filter pass
+     */
+    private ReadOnlyLongWrapper filterDuration;
+
+    private ReadOnlyLongWrapper filterDurationWrapper() {
+        if (this.filterDuration == null) {
+            this.filterDuration = new ReadOnlyLongWrapper(0);
+        }
+        return this.filterDuration;
+    }
+
+    public final ReadOnlyLongProperty filterDurationProperty() {
+        return this.filterDurationWrapper().getReadOnlyProperty();
+    }
+
+    public final long getFilterDuration() {
+        return this.filterDuration == null ? 0 : this.filterDuration.get();
+    }
+
+    /**
+     * number of data items (group nodes are excluded) in the visible subtree of this tree item,
+     * it's updated incrementally whenever the children change. The data items of unloaded lazy
+     * tree items are counted from their data, without creating their children.
+     */
+    private int itemsCount = -1;
+    private ReadOnlyIntegerWrapper itemsCountWrapper;
+    private ListChangeListener<TreeItem<T>> countListener;
+
+    /**
+     * whether the changes of the children are counted without updating the ancestors
+     */
+    private boolean updatingChildren = false;
+
+    public final ReadOnlyIntegerProperty itemsCountProperty() {
+        if (this.itemsCountWrapper == null) {
+            this.itemsCountWrapper = new ReadOnlyIntegerWrapper(getItemsCount());
+        }
+        return this.itemsCountWrapper.getReadOnlyProperty();
+    }
+
+    public final int getItemsCount() {
+        if (this.itemsCount < 0) {
+            this.itemsCount = childrenLoaded ? 0 : countSourceItems();
+        }
+        return this.itemsCount;
+    }
+
     public TreeItem<T> getTreeItem(T value) {
+        loadChildren();
         return itemsMap.get(value);
     }
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import com.jfoenix.transitions.JFXAnimationGovernor;
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.scene.Node;
+
+import java.util.Arrays;
+
+/**
+ * Ripple animation engine, advances the ripples / overlays of all {@link JFXRippler}s
+ * that use the shared animation in one {@link AnimationTimer}.
+ * <p>
+ * the animations state is kept in primitive arrays and the node properties
+ * (scale, translate and opacity) are interpolated directly, the timer is only
+ * running while there are active animations.
+ * <p>
+ * NOTE: the engine must only be used from the FX application thread
+ */
+final class RippleAnimationEngine extends AnimationTimer {
+
+    static final int SCALE = 1;
+    static final int TRANSLATE = 1 << 1;
+    static final int OPACITY = 1 << 2;
+
+    private static final RippleAnimationEngine INSTANCE = new RippleAnimationEngine();
+
+    static RippleAnimationEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * animation handle of a node, it holds the slot of the node in the engine arrays
+     */
+    static final class Handle {
+        private final Node node;
+        private int slot = -1;
+        private Runnable onFinished;
+
+        Handle(Node node) {
+            this.node = node;
+        }
+
+        boolean isRunning() {
+            return slot != -1;
+        }
+    }
+
+    private int count = 0;
+    private boolean running = false;
+    private Handle[] handles = new Handle[16];
+    private Interpolator[] interpolators = new Interpolator[16];
+    private int[] channels = new int[16];
+    private long[] startTimes = new long[16];
+    private double[] durations = new double[16];
+    // from / to values, in the order: scale, translateX, translateY, opacity
+    private double[] from = new double[16 * 4];
+    private double[] to = new double[16 * 4];
+
+    private RippleAnimationEngine() {
+    }
+
+    /**
+     * animates the node of the handle from its current state to the specified values,
+     * if the handle is already running it will be re-targeted
+     *
+     * @param handle       the node handle
+     * @param duration     animation duration in milliseconds
+     * @param interpolator animation interpolator
+     * @param channel      the animated properties, a combination of {@link #SCALE}, {@link #TRANSLATE}, {@link #OPACITY}
+     * @param onFinished   called when the animation is finished, can be null
+     */
+    void animate(Handle handle, double duration, Interpolator interpolator, int channel,
+                 double scale, double translateX, double translateY, double opacity,
+                 Runnable onFinished) {
+        int slot = handle.slot;
+        if (slot == -1) {
+            ensureCapacity(count + 1);
+            slot = count++;
+            handles[slot] = handle;
+            handle.slot = slot;
+        }
+        final Node node = handle.node;
+        handle.onFinished = onFinished;
+        interpolators[slot] = interpolator;
+        channels[slot] = channel;
+        startTimes[slot] = -1;
+        durations[slot] = duration;
+        final int offset = slot * 4;
+        from[offset] = node.getScaleX();
+        from[offset + 1] = node.getTranslateX();
+        from[offset + 2] = node.getTranslateY();
+        from[offset + 3] = node.getOpacity();
+        to[offset] = scale;
+        to[offset + 1] = translateX;
+        to[offset + 2] = translateY;
+        to[offset + 3] = opacity;
+        if (!running) {
+            running = true;
+            start();
+        }
+    }
+
+    /**
+     * stops the animation of the handle without calling its finish callback
+     */
+    void stop(Handle handle) {
+        if (handle.slot != -1) {
+            remove(handle.slot);
+        }
+    }
+
+    @Override
+    public void handle(long now) {
+        final JFXAnimationGovernor governor = JFXAnimationGovernor.getInstance();
+        if (governor.isFrameSkipped()) {
+            return;
+        }
+        final long begin = System.nanoTime();
+        final double timeScale = governor.getTimeScale();
+        final boolean applyEndValues = governor.isApplyingEndValues();
+        // iterate backward, so finished animations can be removed while iterating
+        for (int i = count - 1; i >= 0; i--) {
+            if (i >= count) {
+                // animations were stopped by a finish callback
+                continue;
+            }
+            if (startTimes[i] == -1) {
+                startTimes[i] = now;
+            }
+            final double elapsed = (now - startTimes[i]) / 1000000.0 * timeScale;
+            final double frac = applyEndValues || durations[i] <= 0 ? 1 : Math.min(1, elapsed / durations[i]);
+            final double value = interpolators[i].interpolate(0.0, 1.0, frac);
+            final Node node = handles[i].node;
+            final int channel = channels[i];
+            final int offset = i * 4;
+            if ((channel & SCALE) != 0) {
+                final double scale = from[offset] + (to[offset] - from[offset]) * value;
+                node.setScaleX(scale);
+                node.setScaleY(scale);
+            }
+            if ((channel & TRANSLATE) != 0) {
+                node.setTranslateX(from[offset + 1] + (to[offset + 1] - from[offset + 1]) * value);
+                node.setTranslateY(from[offset + 2] + (to[offset + 2] - from[offset + 2]) * value);
+            }
+            if ((channel & OPACITY) != 0) {
+                node.setOpacity(from[offset + 3] + (to[offset + 3] - from[offset + 3]) * value);
+            }
+            if (frac >= 1) {
+                final Runnable onFinished = handles[i].onFinished;
+                remove(i);
+                if (onFinished != null) {
+                    onFinished.run();
+                }
+            }
+        }
+        governor.record(System.nanoTime() - begin);
+        if (count == 0) {
+            running = false;
+            stop();
+        }
+    }
+
+    /**
+     * @return the number of running animations
+     */
+    int getActiveCount() {
+        return count;
+    }
+
+    private void remove(int slot) {
+        final int last = --count;
+        final Handle handle = handles[slot];
+        handle.slot = -1;
+        handle.onFinished = null;
+        if (slot != last) {
+            // move the last animation to the removed slot
+            final Handle moved = handles[last];
+            handles[slot] = moved;
+            moved.slot = slot;
+            interpolators[slot] = interpolators[last];
+            channels[slot] = channels[last];
+            startTimes[slot] = startTimes[last];
+            durations[slot] = durations[last];
+            System.arraycopy(from, last * 4, from, slot * 4, 4);
+            System.arraycopy(to, last * 4, to, slot * 4, 4);
+        }
+        handles[last] = null;
+        interpolators[last] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > handles.length) {
+            final int length = Math.max(capacity, handles.length * 2);
+            handles = Arrays.copyOf(handles, length);
+            interpolators = Arrays.copyOf(interpolators, length);
+            channels = Arrays.copyOf(channels, length);
+            startTimes = Arrays.copyOf(startTimes, length);
+            durations = Arrays.copyOf(durations, length);
+            from = Arrays.copyOf(from, length * 4);
+            to = Arrays.copyOf(to, length * 4);
+        }
+    }
+}
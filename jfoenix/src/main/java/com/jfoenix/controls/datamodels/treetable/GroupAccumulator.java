@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * holds the aggregated value of a group node using primitive accumulators,
+ * rows can be added / removed without recomputing the whole group.
+ */
+public final class GroupAccumulator {
+
+    private final GroupAggregate.Type type;
+    private long count = 0;
+    private double sum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private ReadOnlyObjectWrapper<Number> value;
+
+    public GroupAccumulator(GroupAggregate.Type type) {
+        this.type = type;
+    }
+
+    public GroupAggregate.Type getType() {
+        return type;
+    }
+
+    public void reset() {
+        count = 0;
+        sum = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    public void add(double rowValue) {
+        count++;
+        sum += rowValue;
+        if (rowValue < min) {
+            min = rowValue;
+        }
+        if (rowValue > max) {
+            max = rowValue;
+        }
+    }
+
+    /**
+     * removes a row value from the accumulator
+     *
+     * @param rowValue the removed value
+     * @return true if the accumulator must be recomputed, i.e. the min/max value was removed
+     */
+    public boolean remove(double rowValue) {
+        count--;
+        sum -= rowValue;
+        return count > 0
+               && ((type == GroupAggregate.Type.MIN && rowValue <= min)
+                   || (type == GroupAggregate.Type.MAX && rowValue >= max));
+    }
+
+    public void merge(GroupAccumulator accumulator) {
+        count += accumulator.count;
+        sum += accumulator.sum;
+        min = Math.min(min, accumulator.min);
+        max = Math.max(max, accumulator.max);
+    }
+
+    /**
+     * @return the aggregated value as a primitive double, NaN for empty groups
+     * unless counting or summing
+     */
+    public double getValue() {
+        switch (type) {
+            case SUM:
+                return sum;
+            case AVG:
+                return count == 0 ? Double.NaN : sum / count;
+            case MIN:
+                return count == 0 ? Double.NaN : min;
+            case MAX:
+                return count == 0 ? Double.NaN : max;
+            default:
+                return count;
+        }
+    }
+
+    /**
+     * @return observable aggregated value, used to render the group rows. It's refreshed
+     * by calling {@link #update()} once the accumulator changes.
+     */
+    public ReadOnlyObjectProperty<Number> valueProperty() {
+        if (value == null) {
+            value = new ReadOnlyObjectWrapper<>(currentValue());
+        }
+        return value.getReadOnlyProperty();
+    }
+
+    public void update() {
+        if (value != null) {
+            value.set(currentValue());
+        }
+    }
+
+    private Number currentValue() {
+        return type == GroupAggregate.Type.COUNT ? (Number) count : (Number) getValue();
+    }
+}
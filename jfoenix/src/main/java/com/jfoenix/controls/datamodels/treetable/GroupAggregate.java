@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Aggregate function computed for the group nodes of a grouped JFXTreeTableView,
+ * the aggregated values are extracted from the rows as primitive doubles.
+ *
+ * @param <S> is the concrete object of the Tree table
+ */
+public final class GroupAggregate<S> {
+
+    public enum Type {
+        SUM, AVG, MIN, MAX, COUNT
+    }
+
+    private final Type type;
+    private final ToDoubleFunction<S> valueFactory;
+
+    private GroupAggregate(Type type, ToDoubleFunction<S> valueFactory) {
+        this.type = type;
+        this.valueFactory = valueFactory;
+    }
+
+    public static <S> GroupAggregate<S> sum(ToDoubleFunction<S> valueFactory) {
+        return new GroupAggregate<>(Type.SUM, valueFactory);
+    }
+
+    public static <S> GroupAggregate<S> avg(ToDoubleFunction<S> valueFactory) {
+        return new GroupAggregate<>(Type.AVG, valueFactory);
+    }
+
+    public static <S> GroupAggregate<S> min(ToDoubleFunction<S> valueFactory) {
+        return new GroupAggregate<>(Type.MIN, valueFactory);
+    }
+
+    public static <S> GroupAggregate<S> max(ToDoubleFunction<S> valueFactory) {
+        return new GroupAggregate<>(Type.MAX, valueFactory);
+    }
+
+    public static <S> GroupAggregate<S> count() {
+        return new GroupAggregate<>(Type.COUNT, row -> 0);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @param row data object
+     * @return the value of the row to be aggregated
+     */
+    public double getValue(S row) {
+        return valueFactory.applyAsDouble(row);
+    }
+}
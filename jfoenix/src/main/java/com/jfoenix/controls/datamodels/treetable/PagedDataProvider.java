@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import java.util.List;
+
+/**
+ * Data provider used by {@link com.jfoenix.controls.PagedTreeItem} to browse large
+ * datasets without loading them in memory. Rows are requested by pages, filtering
+ * and sorting are pushed down to the provider through a {@link PagedQuery}.
+ * <p>
+ * Providers are called from a background thread.
+ *
+ * @param <T> is the concrete object of the Tree table
+ */
+public interface PagedDataProvider<T> {
+
+    /**
+     * @param query the current filter and sort order
+     * @return the number of rows matching the query
+     */
+    int count(PagedQuery<T> query);
+
+    /**
+     * @param query  the current filter and sort order
+     * @param offset index of the first row
+     * @param limit  maximum number of rows to be returned
+     * @return the rows of the requested window, ordered by the query sort order
+     */
+    List<T> fetch(PagedQuery<T> query, int offset, int limit);
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.scene.control.TreeTableColumn;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable filter and sort order passed to a {@link PagedDataProvider}.
+ *
+ * @param <T> is the concrete object of the Tree table
+ */
+public final class PagedQuery<T> {
+
+    private final Predicate<T> filter;
+    private final List<SortKey> sortKeys;
+
+    public PagedQuery(Predicate<T> filter, List<SortKey> sortKeys) {
+        this.filter = filter;
+        this.sortKeys = sortKeys == null ? Collections.emptyList() : Collections.unmodifiableList(sortKeys);
+    }
+
+    /**
+     * @return the row filter, or null if all rows are accepted
+     */
+    public Predicate<T> getFilter() {
+        return filter;
+    }
+
+    /**
+     * @return the sort keys, ordered by priority
+     */
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * sort key of a tree table column, the column is identified by its id
+     * (or its text if no id is set)
+     */
+    public static final class SortKey {
+        private final String columnId;
+        private final TreeTableColumn.SortType sortType;
+
+        public SortKey(String columnId, TreeTableColumn.SortType sortType) {
+            this.columnId = columnId;
+            this.sortType = sortType;
+        }
+
+        public String getColumnId() {
+            return columnId;
+        }
+
+        public TreeTableColumn.SortType getSortType() {
+            return sortType;
+        }
+
+        public boolean isAscending() {
+            return sortType != TreeTableColumn.SortType.DESCENDING;
+        }
+    }
+}
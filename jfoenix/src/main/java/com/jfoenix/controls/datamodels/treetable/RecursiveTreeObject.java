@@ -25,6 +25,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TreeTableColumn;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * data model that is used in JFXTreeTableView, it's used to implement
  * the grouping feature.
@@ -39,11 +42,14 @@ import javafx.scene.control.TreeTableColumn;
 public class RecursiveTreeObject<T> {
 
     /**
-     * grouped children objects
+     * grouped children objects, created on demand
      */
-    ObservableList<T> children = FXCollections.observableArrayList();
+    ObservableList<T> children;
 
     public ObservableList<T> getChildren() {
+        if (children == null) {
+            children = FXCollections.observableArrayList();
+        }
         return children;
     }
 
@@ -51,39 +57,79 @@ public class RecursiveTreeObject<T> {
         this.children = children;
     }
 
+    /**
+     * checks whether the object has children without creating its children list,
+     * it's used by lazy {@link com.jfoenix.controls.RecursiveTreeItem}s to check
+     * leaf nodes. Subclasses that provide their children from another list
+     * should override this method.
+     *
+     * @return true if the object has children
+     */
+    public boolean hasChildren() {
+        return children != null && !children.isEmpty();
+    }
+
     /**
      * Whether or not the object is grouped by a specified tree table column
      */
-    ObjectProperty<TreeTableColumn<T, ?>> groupedColumn = new SimpleObjectProperty<>();
+    ObjectProperty<TreeTableColumn<T, ?>> groupedColumn;
 
     public final ObjectProperty<TreeTableColumn<T, ?>> groupedColumnProperty() {
+        if (this.groupedColumn == null) {
+            this.groupedColumn = new SimpleObjectProperty<>();
+        }
         return this.groupedColumn;
     }
 
     public final TreeTableColumn<T, ?> getGroupedColumn() {
-        return this.groupedColumnProperty().get();
+        return this.groupedColumn == null ? null : this.groupedColumn.get();
     }
 
     public final void setGroupedColumn(final TreeTableColumn<T, ?> groupedColumn) {
+        if (this.groupedColumn == null && groupedColumn == null) {
+            return;
+        }
         this.groupedColumnProperty().set(groupedColumn);
     }
 
     /**
      * the value that must be shown when grouped
      */
-    ObjectProperty<Object> groupedValue = new SimpleObjectProperty<>();
+    ObjectProperty<Object> groupedValue;
 
     public final ObjectProperty<Object> groupedValueProperty() {
+        if (this.groupedValue == null) {
+            this.groupedValue = new SimpleObjectProperty<>();
+        }
         return this.groupedValue;
     }
 
     public final java.lang.Object getGroupedValue() {
-        return this.groupedValueProperty().get();
+        return this.groupedValue == null ? null : this.groupedValue.get();
     }
 
     public final void setGroupedValue(final java.lang.Object groupedValue) {
+        if (this.groupedValue == null && groupedValue == null) {
+            return;
+        }
         this.groupedValueProperty().set(groupedValue);
     }
 
+    /**
+     * the aggregated values of the group by tree table column, created on demand
+     */
+    Map<TreeTableColumn<T, ?>, GroupAccumulator> aggregates;
+
+    public final Map<TreeTableColumn<T, ?>, GroupAccumulator> getAggregates() {
+        if (aggregates == null) {
+            aggregates = new HashMap<>();
+        }
+        return aggregates;
+    }
+
+    public final GroupAccumulator getAggregate(TreeTableColumn<T, ?> column) {
+        return aggregates == null ? null : aggregates.get(column);
+    }
+
 
 }
@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls.datamodels.treetable;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Streaming adapter used to feed the data list of a JFXTreeTableView from
+ * high rate sources. Updates can be pushed from any thread, they are coalesced
+ * by row key (only the latest update of a row is kept) and applied to the data
+ * list on the FX thread in bounded batches, once per pulse.
+ *
+ * @param <K> the row key type
+ * @param <T> is the concrete object of the Tree table
+ */
+public class StreamingDataAdapter<K, T> {
+
+    private final ObservableList<T> items;
+    private final Function<T, K> keyFactory;
+
+    // dirty keys in arrival order, and the latest update of each dirty key
+    private final ConcurrentLinkedQueue<K> dirtyKeys = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<K, Update<T>> pendingUpdates = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // applied rows by key, only accessed from the FX thread
+    private final Map<K, T> rows = new HashMap<>();
+    private Map<T, Integer> rowIndices;
+
+    private final AnimationTimer pulseHandler = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            applyBatch();
+        }
+    };
+
+    // the pulse handler only runs while the adapter is started and has pending updates
+    private volatile boolean started = false;
+    private boolean pulseHandlerRunning = false;
+
+    /**
+     * creates a streaming adapter for the specified data list, the data list
+     * must only be modified through the adapter once it's created.
+     *
+     * @param items      the data list of the tree table view
+     * @param keyFactory extracts the unique key of a row
+     */
+    public StreamingDataAdapter(ObservableList<T> items, Function<T, K> keyFactory) {
+        this.items = items;
+        this.keyFactory = keyFactory;
+        for (T item : items) {
+            rows.put(keyFactory.apply(item), item);
+        }
+    }
+
+    /**
+     * starts applying the pending updates on each pulse, must be called from the FX thread.
+     * The adapter only listens to pulses while there are pending updates.
+     */
+    public void start() {
+        started = true;
+        startPulseHandler();
+    }
+
+    /**
+     * stops applying the pending updates, must be called from the FX thread
+     */
+    public void stop() {
+        started = false;
+        stopPulseHandler();
+    }
+
+    private void startPulseHandler() {
+        if (started && !pulseHandlerRunning && pendingCount.get() > 0) {
+            pulseHandlerRunning = true;
+            pulseHandler.start();
+        }
+    }
+
+    private void stopPulseHandler() {
+        if (pulseHandlerRunning) {
+            pulseHandlerRunning = false;
+            pulseHandler.stop();
+        }
+    }
+
+    /**
+     * adds or replaces a row, can be called from any thread
+     *
+     * @param row the new row value
+     */
+    public void push(T row) {
+        enqueue(keyFactory.apply(row), new Update<>(row));
+    }
+
+    /**
+     * removes the row of the specified key, can be called from any thread
+     *
+     * @param key row key
+     */
+    public void remove(K key) {
+        enqueue(key, new Update<>(null));
+    }
+
+    private void enqueue(K key, Update<T> update) {
+        final Update<T> previous = pendingUpdates.put(key, update);
+        if (previous == null) {
+            dirtyKeys.offer(key);
+            if (pendingCount.incrementAndGet() == 1 && started) {
+                // the backlog was drained, so the pulse handler might be stopped
+                Platform.runLater(this::startPulseHandler);
+            }
+        } else {
+            // keep the time at which the row became dirty
+            update.time = previous.time;
+        }
+    }
+
+    /*
+     * applies at most maxBatchSize pending updates to the data list
+     */
+    private void applyBatch() {
+        final int maxBatchSize = getMaxBatchSize();
+        if (pendingCount.get() == 0) {
+            stopPulseHandler();
+            return;
+        }
+        final long start = System.nanoTime();
+        long oldestUpdate = start;
+        final Set<T> removedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<K, T> replacedRows = new HashMap<>();
+        final List<T> addedRows = new ArrayList<>();
+        int batchSize = 0;
+
+        K key;
+        while (batchSize < maxBatchSize && (key = dirtyKeys.poll()) != null) {
+            pendingCount.decrementAndGet();
+            final Update<T> update = pendingUpdates.remove(key);
+            if (update == null) {
+                continue;
+            }
+            batchSize++;
+            oldestUpdate = Math.min(oldestUpdate, update.time);
+            final T current = rows.get(key);
+            if (update.row == null) {
+                if (current != null) {
+                    rows.remove(key);
+                    removedRows.add(current);
+                }
+            } else if (current == null) {
+                rows.put(key, update.row);
+                addedRows.add(update.row);
+            } else if (getRowUpdater() != null) {
+                getRowUpdater().accept(current, update.row);
+            } else {
+                rows.put(key, update.row);
+                replacedRows.put(key, current);
+            }
+        }
+
+        if (!removedRows.isEmpty()) {
+            items.removeAll(removedRows);
+            rowIndices = null;
+        }
+        if (!replacedRows.isEmpty()) {
+            if (rowIndices == null) {
+                rowIndices = new IdentityHashMap<>();
+                for (int i = 0; i < items.size(); i++) {
+                    rowIndices.put(items.get(i), i);
+                }
+            }
+            for (Map.Entry<K, T> entry : replacedRows.entrySet()) {
+                final Integer index = rowIndices.remove(entry.getValue());
+                final T row = rows.get(entry.getKey());
+                if (index != null) {
+                    items.set(index, row);
+                    rowIndices.put(row, index);
+                }
+            }
+        }
+        if (!addedRows.isEmpty()) {
+            if (rowIndices != null) {
+                for (int i = 0; i < addedRows.size(); i++) {
+                    rowIndices.put(addedRows.get(i), items.size() + i);
+                }
+            }
+            items.addAll(addedRows);
+        }
+
+        final long end = System.nanoTime();
+        lastBatchSize.set(batchSize);
+        lastBatchDuration.set(end - start);
+        lastBatchLatency.set(end - oldestUpdate);
+        backlog.set(pendingCount.get());
+        if (pendingCount.get() == 0) {
+            stopPulseHandler();
+        }
+    }
+
+    private static final class Update<T> {
+        private final T row;
+        private long time = System.nanoTime();
+
+        Update(T row) {
+            this.row = row;
+        }
+    }
+
+    /**
+     * maximum number of row updates applied to the data list in a single pulse
+     */
+    private IntegerProperty maxBatchSize = new SimpleIntegerProperty(2000);
+
+    public final IntegerProperty maxBatchSizeProperty() {
+        return this.maxBatchSize;
+    }
+
+    public final int getMaxBatchSize() {
+        return this.maxBatchSizeProperty().get();
+    }
+
+    public final void setMaxBatchSize(final int maxBatchSize) {
+        this.maxBatchSizeProperty().set(maxBatchSize);
+    }
+
+    /**
+     * if set, an update of an existing row is merged into the current row object
+     * (e.g. by updating its properties) instead of replacing it in the data list
+     */
+    private BiConsumer<T, T> rowUpdater;
+
+    public BiConsumer<T, T> getRowUpdater() {
+        return rowUpdater;
+    }
+
+    public void setRowUpdater(BiConsumer<T, T> rowUpdater) {
+        this.rowUpdater = rowUpdater;
+    }
+
+    /**
+     * number of rows waiting to be applied, updated after each batch
+     */
+    private ReadOnlyIntegerWrapper backlog = new ReadOnlyIntegerWrapper(0);
+
+    public final ReadOnlyIntegerProperty backlogProperty() {
+        return backlog.getReadOnlyProperty();
+    }
+
+    public final int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * number of rows applied in the last batch
+     */
+    private ReadOnlyIntegerWrapper lastBatchSize = new ReadOnlyIntegerWrapper(0);
+
+    public final ReadOnlyIntegerProperty lastBatchSizeProperty() {
+        return lastBatchSize.getReadOnlyProperty();
+    }
+
+    public final int getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    /**
+     * time in nanoseconds spent applying the last batch
+     */
+    private ReadOnlyLongWrapper lastBatchDuration = new ReadOnlyLongWrapper(0);
+
+    public final ReadOnlyLongProperty lastBatchDurationProperty() {
+        return lastBatchDuration.getReadOnlyProperty();
+    }
+
+    public final long getLastBatchDuration() {
+        return lastBatchDuration.get();
+    }
+
+    /**
+     * time in nanoseconds between the oldest update of the last batch
+     * being pushed and the batch being applied
+     */
+    private ReadOnlyLongWrapper lastBatchLatency = new ReadOnlyLongWrapper(0);
+
+    public final ReadOnlyLongProperty lastBatchLatencyProperty() {
+        return lastBatchLatency.getReadOnlyProperty();
+    }
+
+    public final long getLastBatchLatency() {
+        return lastBatchLatency.get();
+    }
+}
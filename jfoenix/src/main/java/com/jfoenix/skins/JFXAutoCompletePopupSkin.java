@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXAutoCompletePopup;
 import com.jfoenix.controls.events.JFXAutoCompleteEvent;
+import com.jfoenix.transitions.JFXReducedMotion;
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -123,6 +124,17 @@ public class JFXAutoCompletePopupSkin<T> implements Skin<JFXAutoCompletePopup<T>
 
     public void animate() {
         updateListHeight();
+        if (JFXReducedMotion.isReducedMotion(pane)) {
+            // show the suggestions without animation
+            if (showTransition != null) {
+                showTransition.stop();
+            }
+            if (scale != null) {
+                scale.setY(1);
+            }
+            suggestionList.setOpacity(1);
+            return;
+        }
         if (showTransition == null || showTransition.getStatus().equals(Status.STOPPED)) {
             if (scale == null) {
                 scale = new Scale(1, 0);
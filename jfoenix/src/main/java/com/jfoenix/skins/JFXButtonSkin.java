@@ -24,7 +24,6 @@ import com.jfoenix.controls.JFXButton.ButtonType;
 import com.jfoenix.controls.JFXRippler;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.transitions.CachedTransition;
-import com.jfoenix.utils.JFXNodeUtils;
 import com.sun.javafx.scene.control.skin.ButtonSkin;
 import com.sun.javafx.scene.control.skin.LabeledText;
 import javafx.animation.Interpolator;
@@ -58,36 +57,27 @@ public class JFXButtonSkin extends ButtonSkin {
     public JFXButtonSkin(JFXButton button) {
         super(button);
 
-        buttonRippler = new JFXRippler(getSkinnable()) {
-            @Override
-            protected Node getMask() {
-                StackPane mask = new StackPane();
-                mask.shapeProperty().bind(getSkinnable().shapeProperty());
-                JFXNodeUtils.updateBackground(getSkinnable().getBackground(), mask);
-                mask.resize(getWidth() - snappedRightInset() - snappedLeftInset(),
-                    getHeight() - snappedBottomInset() - snappedTopInset());
-                return mask;
-            }
-
-            @Override
-            protected void positionControl(Node control) {
-                // do nothing as the controls is not inside the ripple
-            }
-        };
-
         // add listeners to the button and bind properties
         button.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> playClickAnimation(1));
 //        button.addEventHandler(MouseEvent.MOUSE_RELEASED, e -> playClickAnimation(-1));
-        button.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> mousePressed = true);
+        button.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> {
+            mousePressed = true;
+            // the rippler handlers are registered before the bubbling phase of the first press
+            createRippler();
+        });
         button.addEventFilter(MouseEvent.MOUSE_RELEASED, e -> mousePressed = false);
         button.addEventFilter(MouseEvent.MOUSE_DRAGGED, e -> mousePressed = false);
 
-        button.ripplerFillProperty().addListener((o, oldVal, newVal) -> buttonRippler.setRipplerFill(newVal));
+        button.ripplerFillProperty().addListener((o, oldVal, newVal) -> {
+            if (buttonRippler != null) {
+                buttonRippler.setRipplerFill(newVal);
+            }
+        });
 
         button.armedProperty().addListener((o, oldVal, newVal) -> {
             if (newVal) {
                 if (!mousePressed) {
-                    releaseManualRippler = buttonRippler.createManualRipple();
+                    releaseManualRippler = createRippler().createManualRipple();
                     playClickAnimation(1);
                 }
             } else {
@@ -104,9 +94,9 @@ public class JFXButtonSkin extends ButtonSkin {
             if (!button.disableVisualFocusProperty().get()) {
                 if (newVal) {
                     if (!getSkinnable().isPressed()) {
-                        buttonRippler.setOverlayVisible(true);
+                        createRippler().setOverlayVisible(true);
                     }
-                } else {
+                } else if (buttonRippler != null) {
                     buttonRippler.setOverlayVisible(false);
                 }
             }
@@ -119,13 +109,49 @@ public class JFXButtonSkin extends ButtonSkin {
         updateChildren();
     }
 
+    /**
+     * creates the button rippler if it's not created yet, the rippler is created
+     * on the first press / focus to reduce the nodes count of large forms
+     *
+     * @return the button rippler
+     */
+    private JFXRippler createRippler() {
+        if (buttonRippler == null) {
+            buttonRippler = new JFXRippler(getSkinnable()) {
+                @Override
+                protected Node getMask() {
+                    StackPane mask = getReusableMask() instanceof StackPane ? (StackPane) getReusableMask() : new StackPane();
+                    if (!mask.shapeProperty().isBound()) {
+                        mask.shapeProperty().bind(getSkinnable().shapeProperty());
+                    }
+                    updateMaskBackground(getSkinnable().getBackground(), mask);
+                    mask.resize(getWidth() - snappedRightInset() - snappedLeftInset(),
+                        getHeight() - snappedBottomInset() - snappedTopInset());
+                    return mask;
+                }
+
+                @Override
+                protected void positionControl(Node control) {
+                    // do nothing as the controls is not inside the ripple
+                }
+            };
+            getChildren().add(0, buttonRippler);
+            // the ripple is shown before the next layout pass
+            invalid = true;
+            updateRipplerFill();
+            buttonRippler.applyCss();
+            layoutRippler();
+        }
+        return buttonRippler;
+    }
+
     @Override
     protected void updateChildren() {
         super.updateChildren();
         if (buttonRippler != null) {
             getChildren().add(0, buttonRippler);
         }
-        for (int i = 1; i < getChildren().size(); i++) {
+        for (int i = buttonRippler != null ? 1 : 0; i < getChildren().size(); i++) {
             final Node child = getChildren().get(i);
             if (child instanceof Text) {
                 child.setMouseTransparent(true);
@@ -135,7 +161,13 @@ public class JFXButtonSkin extends ButtonSkin {
 
     @Override
     protected void layoutChildren(final double x, final double y, final double w, final double h) {
-        if (invalid) {
+        updateRipplerFill();
+        layoutRippler();
+        layoutLabelInArea(x, y, w, h);
+    }
+
+    private void updateRipplerFill() {
+        if (invalid && buttonRippler != null) {
             if (((JFXButton) getSkinnable()).getRipplerFill() == null) {
                 // change rippler fill according to the last LabeledText/Label child
                 for (int i = getChildren().size() - 1; i >= 1; i--) {
@@ -158,11 +190,15 @@ public class JFXButtonSkin extends ButtonSkin {
             }
             invalid = false;
         }
-        buttonRippler.resizeRelocate(
-            getSkinnable().getLayoutBounds().getMinX(),
-            getSkinnable().getLayoutBounds().getMinY(),
-            getSkinnable().getWidth(), getSkinnable().getHeight());
-        layoutLabelInArea(x, y, w, h);
+    }
+
+    private void layoutRippler() {
+        if (buttonRippler != null) {
+            buttonRippler.resizeRelocate(
+                getSkinnable().getLayoutBounds().getMinX(),
+                getSkinnable().getLayoutBounds().getMinY(),
+                getSkinnable().getWidth(), getSkinnable().getHeight());
+        }
     }
 
 
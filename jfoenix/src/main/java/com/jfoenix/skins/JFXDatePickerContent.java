@@ -20,6 +20,7 @@
 package com.jfoenix.skins;
 
 import com.jfoenix.assets.JFoenixResources;
+import com.jfoenix.cache.SnapshotPool;
 import com.jfoenix.controls.JFXButton;
 import com.jfoenix.controls.JFXDatePicker;
 import com.jfoenix.controls.JFXListCell;
@@ -34,7 +35,6 @@ import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.control.DateCell;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
@@ -715,11 +715,9 @@ public class JFXDatePickerContent extends VBox {
             if (tempImageTransition == null || tempImageTransition.getStatus() == Status.STOPPED) {
                 Pane monthContent = (Pane) calendarPlaceHolder.getChildren().get(0);
                 this.getParent().setManaged(false);
-                SnapshotParameters snapShotparams = new SnapshotParameters();
-                snapShotparams.setFill(Color.TRANSPARENT);
-                WritableImage temp = monthContent.snapshot(snapShotparams,
-                    new WritableImage((int) monthContent.getWidth(),
-                        (int) monthContent.getHeight()));
+                WritableImage temp = SnapshotPool.getInstance().snapshot(monthContent,
+                    (int) monthContent.getWidth(),
+                    (int) monthContent.getHeight());
                 ImageView tempImage = new ImageView(temp);
                 calendarPlaceHolder.getChildren().add(calendarPlaceHolder.getChildren().size() - 2, tempImage);
                 TranslateTransition imageTransition = new TranslateTransition(Duration.millis(160), tempImage);
@@ -732,6 +730,7 @@ public class JFXDatePickerContent extends VBox {
                 tempImageTransition = new ParallelTransition(imageTransition, contentTransition);
                 tempImageTransition.setOnFinished((finish) -> {
                     calendarPlaceHolder.getChildren().remove(tempImage);
+                    SnapshotPool.getInstance().release(temp);
                     this.getParent().setManaged(true);
                 });
                 tempImageTransition.play();
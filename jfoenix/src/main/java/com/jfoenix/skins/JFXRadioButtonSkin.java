@@ -148,6 +148,7 @@ public class JFXRadioButtonSkin extends RadioButtonSkin {
                     .setInterpolator(Interpolator.EASE_BOTH)
                     .build()
             ));
+        timer.setOwner(control);
 
         registerChangeListener(control.selectedColorProperty(), "SELECTED_COLOR");
         registerChangeListener(control.unSelectedColorProperty(), "UNSELECTED_COLOR");
@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.JFXSlider;
 import com.jfoenix.controls.JFXSlider.IndicatorPosition;
+import com.jfoenix.transitions.JFXReducedMotion;
 import com.sun.javafx.scene.control.skin.SliderSkin;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -175,22 +176,10 @@ public class JFXSliderSkin extends SliderSkin {
         mouseHandlerPane.setOnMouseDragged(this::delegateToTrack);
 
         // animate value node
-        track.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> {
-            timeline.setRate(1);
-            timeline.play();
-        });
-        track.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> {
-            timeline.setRate(-1);
-            timeline.play();
-        });
-        thumb.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> {
-            timeline.setRate(1);
-            timeline.play();
-        });
-        thumb.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> {
-            timeline.setRate(-1);
-            timeline.play();
-        });
+        track.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> playAnimation(1));
+        track.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> playAnimation(-1));
+        thumb.addEventHandler(MouseEvent.MOUSE_PRESSED, (event) -> playAnimation(1));
+        thumb.addEventHandler(MouseEvent.MOUSE_RELEASED, (event) -> playAnimation(-1));
 
         refreshSliderValueBinding();
         updateValueStyleClass();
@@ -199,6 +188,15 @@ public class JFXSliderSkin extends SliderSkin {
         getSkinnable().orientationProperty().addListener(observable -> initAnimation(getSkinnable().getOrientation()));
     }
 
+    private void playAnimation(double rate) {
+        timeline.setRate(rate);
+        timeline.play();
+        // in reduced motion mode the value indicator jumps to its end state
+        if (JFXReducedMotion.isReducedMotion(getSkinnable())) {
+            timeline.jumpTo(rate < 0 ? Duration.ZERO : timeline.getTotalDuration());
+        }
+    }
+
     private void delegateToTrack(MouseEvent event) {
         if (!event.isConsumed()) {
             event.consume();
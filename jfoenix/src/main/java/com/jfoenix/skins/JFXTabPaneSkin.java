@@ -27,6 +27,7 @@ import com.jfoenix.controls.JFXTabPane;
 import com.jfoenix.effects.JFXDepthManager;
 import com.jfoenix.svg.SVGGlyph;
 import com.jfoenix.transitions.CachedTransition;
+import com.jfoenix.transitions.JFXReducedMotion;
 import com.sun.javafx.scene.control.MultiplePropertyChangeListenerHandler;
 import com.sun.javafx.scene.control.behavior.TabPaneBehavior;
 import com.sun.javafx.scene.control.skin.BehaviorSkinBase;
@@ -377,7 +378,8 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                         diffTabsIndices = 0;
                     }
                     // animate upon tab selection only otherwise just translate the selected tab
-                    if (isSelectingTab && !((JFXTabPane) getSkinnable()).isDisableAnimation()) {
+                    if (isSelectingTab && !((JFXTabPane) getSkinnable()).isDisableAnimation()
+                        && !JFXReducedMotion.isReducedMotion(getSkinnable())) {
                         new CachedTransition(tabsContainer,
                             new Timeline(new KeyFrame(Duration.millis(1000),
                                 new KeyValue(tabsContainer.translateXProperty(),
@@ -666,6 +668,15 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
             selectedTabLineOffset = newTransX;
             // add offset to the computed translation
             newTransX = newTransX + offsetStart * direction;
+
+            if (JFXReducedMotion.isReducedMotion(getSkinnable())) {
+                // move the selection line to its end state
+                rotate.setAngle(0);
+                scale.setX(newScaleX);
+                selectedTabLine.setTranslateX(newTransX);
+                return;
+            }
+
             final double transDiff = newTransX - oldTransX;
 
 
@@ -1199,11 +1210,20 @@ public class JFXTabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
                 offsetProperty.set(header.scrollOffset);
                 double offset = isLeftArrow ? header.scrollOffset + header.headersRegion.getWidth() : header.scrollOffset - header.headersRegion
                     .getWidth();
+                if (JFXReducedMotion.isReducedMotion(getSkinnable())) {
+                    // scroll by a whole page at once
+                    offsetProperty.set(offset);
+                    return;
+                }
                 arrowAnimation = new Timeline(new KeyFrame(Duration.seconds(1),
                     new KeyValue(offsetProperty, offset, Interpolator.LINEAR)));
                 arrowAnimation.play();
             });
-            container.setOnMouseReleased(release -> arrowAnimation.stop());
+            container.setOnMouseReleased(release -> {
+                if (arrowAnimation != null) {
+                    arrowAnimation.stop();
+                }
+            });
             JFXRippler arrowRippler = new JFXRippler(container, RipplerMask.CIRCLE, RipplerPos.BACK);
             arrowRippler.setPadding(new Insets(0, 5, 0, 5));
 
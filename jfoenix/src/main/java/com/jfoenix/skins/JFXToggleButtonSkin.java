@@ -150,6 +150,7 @@ public class JFXToggleButtonSkin extends ToggleButtonSkin {
             )
         );
         timer.setCacheNodes(circle, line);
+        timer.setOwner(toggleButton);
 
         registerChangeListener(toggleButton.toggleColorProperty(), "TOGGLE_COLOR");
         registerChangeListener(toggleButton.unToggleColorProperty(), "UNTOGGLE_COLOR");
@@ -19,8 +19,11 @@
 
 package com.jfoenix.skins;
 
+import com.jfoenix.controls.PagedTreeItem;
 import com.sun.javafx.scene.control.skin.TableHeaderRow;
 import com.sun.javafx.scene.control.skin.TreeTableViewSkin;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.TreeItem;
 import javafx.scene.control.TreeTableView;
 
 /**
@@ -30,6 +33,28 @@ public class JFXTreeTableViewSkin<S> extends TreeTableViewSkin<S> {
 
     public JFXTreeTableViewSkin(TreeTableView<S> treeTableView) {
         super(treeTableView);
+        flow.positionProperty().addListener(observable -> updateVisibleRange());
+    }
+
+    @Override
+    protected void layoutChildren(double x, double y, double w, double h) {
+        super.layoutChildren(x, y, w, h);
+        updateVisibleRange();
+    }
+
+    /*
+     * reports the visible rows to paged roots, so only their pages are loaded
+     */
+    private void updateVisibleRange() {
+        final TreeItem<S> root = getSkinnable().getRoot();
+        if (root instanceof PagedTreeItem) {
+            final IndexedCell<?> first = flow.getFirstVisibleCell();
+            final IndexedCell<?> last = flow.getLastVisibleCell();
+            if (first != null && last != null) {
+                final int offset = getSkinnable().isShowRoot() ? 1 : 0;
+                ((PagedTreeItem<S>) root).setVisibleRange(first.getIndex() - offset, last.getIndex() - offset);
+            }
+        }
     }
 
     protected TableHeaderRow createTableHeaderRow() {
@@ -193,6 +193,8 @@ public class PromptLinesWrapper<T extends Control & IFXLabelFloatControl> {
                     .setEndValue(1)
                     .setInterpolator(Interpolator.EASE_BOTH).build())
         );
+        focusTimer.setOwner(control);
+        unfocusTimer.setOwner(control);
 
         promptContainer.getStyleClass().add("prompt-container");
         promptContainer.setManaged(false);
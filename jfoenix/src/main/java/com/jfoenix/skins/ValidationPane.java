@@ -21,6 +21,7 @@ package com.jfoenix.skins;
 
 import com.jfoenix.controls.base.IFXStaticControl;
 import com.jfoenix.controls.base.IFXValidatableControl;
+import com.jfoenix.transitions.JFXReducedMotion;
 import com.jfoenix.utils.JFXUtilities;
 import com.jfoenix.validation.base.ValidatorBase;
 import javafx.animation.Animation;
@@ -89,7 +90,7 @@ public class ValidationPane<T extends Region & IFXValidatableControl & IFXStatic
 
 
         control.activeValidatorProperty().addListener((ObservableValue<? extends ValidatorBase> o, ValidatorBase oldVal, ValidatorBase newVal) -> {
-            if (!control.isDisableAnimation()) {
+            if (!control.isDisableAnimation() && !JFXReducedMotion.isReducedMotion(control)) {
                 if (newVal != null) {
                     errorHideTransition.setOnFinished(finish -> {
                         showError(newVal);
@@ -144,6 +145,19 @@ public class ValidationPane<T extends Region & IFXValidatableControl & IFXStatic
                     // animate opacity only
                     errorHideTransition.play();
                 }
+            } else if (!control.isDisableAnimation()) {
+                // reduced motion mode, apply the end state of the error animations
+                errorHideTransition.stop();
+                errorHideTransition.setOnFinished(null);
+                if (newVal != null) {
+                    JFXUtilities.runInFXAndWait(() -> invalid(control.getWidth()));
+                } else {
+                    JFXUtilities.runInFXAndWait(() -> {
+                        hideError();
+                        setOpacity(0);
+                        errorClipScale.setY(0);
+                    });
+                }
             } else {
                 if (newVal != null) {
                     JFXUtilities.runInFXAndWait(() -> showError(newVal));
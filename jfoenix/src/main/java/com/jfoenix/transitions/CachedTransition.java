@@ -28,6 +28,10 @@ import javafx.util.Duration;
 
 /**
  * applies animation on a cached node to improve the performance
+ * <p>
+ * the key frames of the timeline are compiled into an interpolation table that is
+ * evaluated on each frame, instead of seeking the timeline. timelines that can't
+ * be compiled (see {@link CompiledTimeline}) are seeked as before.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -37,6 +41,10 @@ public class CachedTransition extends Transition {
     protected final Node node;
     protected ObjectProperty<Timeline> timeline = new SimpleObjectProperty<>();
     private CacheMemento[] mementos = new CacheMemento[0];
+    // last interpolated fraction, used to skip frames of degraded animations that don't change it
+    private double lastFraction = Double.NaN;
+    // interpolation table of the timeline, compiled on the first frame
+    private CompiledTimeline compiledTimeline;
 
     public CachedTransition(final Node node, final Timeline timeline) {
         this.node = node;
@@ -78,6 +86,7 @@ public class CachedTransition extends Transition {
      * Called when the animation is starting
      */
     protected void starting() {
+        lastFraction = Double.NaN;
         if (mementos != null) {
             for (int i = 0; i < mementos.length; i++) {
                 mementos[i].cache();
@@ -89,6 +98,7 @@ public class CachedTransition extends Transition {
      * Called when the animation is stopping
      */
     protected void stopping() {
+        lastFraction = Double.NaN;
         if (mementos != null) {
             for (int i = 0; i < mementos.length; i++) {
                 mementos[i].restore();
@@ -96,12 +106,56 @@ public class CachedTransition extends Transition {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * in reduced motion mode (see {@link JFXReducedMotion}) the transition jumps to its end,
+     * so it finishes on the next pulse.
+     */
+    @Override
+    public void play() {
+        super.play();
+        if (getStatus() == Status.RUNNING
+            && getCycleCount() != INDEFINITE
+            && JFXReducedMotion.isReducedMotion(node)) {
+            jumpTo(getRate() < 0 ? Duration.ZERO : getTotalDuration());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void interpolate(double d) {
-        timeline.get().playFrom(Duration.seconds(d));
-        timeline.get().stop();
+        final JFXAnimationGovernor governor = JFXAnimationGovernor.getInstance();
+        // reversed transitions (e.g. unselecting a control) end at the start of the timeline
+        final boolean reversed = getCurrentRate() < 0;
+        final double end = reversed ? 0 : 1;
+        final double frac;
+        if (governor.isApplyingEndValues()) {
+            frac = end;
+        } else if (reversed) {
+            frac = Math.max(0, 1 - (1 - d) * governor.getTimeScale());
+        } else {
+            frac = Math.min(1, d * governor.getTimeScale());
+        }
+        if (governor.getDegradationLevel() != JFXAnimationGovernor.DegradationLevel.NONE
+            && (frac == lastFraction || (frac != end && governor.isFrameSkipped()))) {
+            // degraded animation, skip the frame
+            return;
+        }
+        lastFraction = frac;
+        final long begin = System.nanoTime();
+        final Timeline timeline = this.timeline.get();
+        if (compiledTimeline == null || !compiledTimeline.isCompiledFrom(timeline)) {
+            compiledTimeline = CompiledTimeline.compile(timeline);
+        }
+        if (compiledTimeline.isSupported()) {
+            compiledTimeline.interpolate(frac * 1000);
+        } else {
+            timeline.playFrom(Duration.seconds(frac));
+            timeline.stop();
+        }
+        governor.record(System.nanoTime() - begin);
     }
 }
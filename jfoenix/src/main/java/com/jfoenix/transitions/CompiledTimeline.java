@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.value.WritableDoubleValue;
+import javafx.beans.value.WritableValue;
+import javafx.collections.ObservableList;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interpolation table of a {@link Timeline}, used by {@link CachedTransition} to evaluate
+ * the timeline key frames at a given time directly instead of seeking the timeline.
+ * <p>
+ * the key values are grouped by target into tracks sorted by time, each track is
+ * interpolated the same way as the timeline does: between two consecutive key values of
+ * the target, using the interpolator of the later key value. {@link WritableDoubleValue}
+ * targets are interpolated using primitive doubles.
+ * <p>
+ * timelines that can't be evaluated the same way (key frames with event handlers, multiple cycles
+ * or targets without a key value at time zero, whose start value is captured by the timeline) are
+ * marked as unsupported, in that case the timeline should be used instead.
+ */
+final class CompiledTimeline {
+
+    private final Timeline timeline;
+    private final KeyFrame[] keyFrames;
+    private final boolean supported;
+
+    // tracks
+    private WritableValue[] targets;
+    private WritableDoubleValue[] doubleTargets;
+    private int[] trackOffsets;
+    private int[] trackLengths;
+
+    // key values of all tracks
+    private double[] times;
+    private double[] doubleValues;
+    private Object[] values;
+    private Interpolator[] interpolators;
+
+    private CompiledTimeline(Timeline timeline) {
+        this.timeline = timeline;
+        final ObservableList<KeyFrame> frames = timeline.getKeyFrames();
+        this.keyFrames = frames.toArray(new KeyFrame[frames.size()]);
+        this.supported = compile();
+    }
+
+    static CompiledTimeline compile(Timeline timeline) {
+        return new CompiledTimeline(timeline);
+    }
+
+    /**
+     * @return true if the table was compiled from the current key frames of the timeline
+     */
+    boolean isCompiledFrom(Timeline timeline) {
+        if (this.timeline != timeline) {
+            return false;
+        }
+        final ObservableList<KeyFrame> frames = timeline.getKeyFrames();
+        if (frames.size() != keyFrames.length) {
+            return false;
+        }
+        for (int i = 0; i < keyFrames.length; i++) {
+            if (frames.get(i) != keyFrames[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isSupported() {
+        return supported;
+    }
+
+    private boolean compile() {
+        if (timeline.getCycleCount() != 1) {
+            return false;
+        }
+        // group key values by target, keeping the key frames order
+        final Map<WritableValue<?>, List<KeyValueEntry>> tracks = new IdentityHashMap<>();
+        final List<WritableValue<?>> trackTargets = new ArrayList<>();
+        int count = 0;
+        for (KeyFrame keyFrame : keyFrames) {
+            if (keyFrame.getOnFinished() != null) {
+                return false;
+            }
+            final Duration time = keyFrame.getTime();
+            if (time.isUnknown() || time.isIndefinite()) {
+                return false;
+            }
+            for (KeyValue keyValue : keyFrame.getValues()) {
+                List<KeyValueEntry> track = tracks.get(keyValue.getTarget());
+                if (track == null) {
+                    track = new ArrayList<>();
+                    tracks.put(keyValue.getTarget(), track);
+                    trackTargets.add(keyValue.getTarget());
+                }
+                track.add(new KeyValueEntry(time.toMillis(), keyValue));
+                count++;
+            }
+        }
+
+        final int trackCount = trackTargets.size();
+        targets = new WritableValue[trackCount];
+        doubleTargets = new WritableDoubleValue[trackCount];
+        trackOffsets = new int[trackCount];
+        trackLengths = new int[trackCount];
+        times = new double[count];
+        doubleValues = new double[count];
+        values = new Object[count];
+        interpolators = new Interpolator[count];
+
+        int offset = 0;
+        for (int i = 0; i < trackCount; i++) {
+            final WritableValue<?> target = trackTargets.get(i);
+            final List<KeyValueEntry> track = tracks.get(target);
+            // stable sort, for key values at the same time the last one wins
+            track.sort(Comparator.comparingDouble(entry -> entry.time));
+            if (track.get(0).time != 0) {
+                return false;
+            }
+            boolean doubleTrack = target instanceof WritableDoubleValue;
+            for (KeyValueEntry entry : track) {
+                doubleTrack &= entry.keyValue.getEndValue() instanceof Number;
+            }
+            targets[i] = target;
+            doubleTargets[i] = doubleTrack ? (WritableDoubleValue) target : null;
+            trackOffsets[i] = offset;
+            trackLengths[i] = track.size();
+            for (KeyValueEntry entry : track) {
+                final Object value = entry.keyValue.getEndValue();
+                times[offset] = entry.time;
+                values[offset] = value;
+                doubleValues[offset] = doubleTrack ? ((Number) value).doubleValue() : 0;
+                interpolators[offset] = entry.keyValue.getInterpolator();
+                offset++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * applies the timeline values at the specified time
+     *
+     * @param millis time in milliseconds
+     */
+    void interpolate(double millis) {
+        for (int i = 0; i < targets.length; i++) {
+            final int first = trackOffsets[i];
+            final int last = first + trackLengths[i] - 1;
+            // find the last key value that is not after the specified time
+            int index = first;
+            while (index < last && times[index + 1] <= millis) {
+                index++;
+            }
+            final WritableDoubleValue doubleTarget = doubleTargets[i];
+            if (index == last) {
+                if (doubleTarget != null) {
+                    doubleTarget.set(doubleValues[last]);
+                } else {
+                    targets[i].setValue(values[last]);
+                }
+            } else {
+                final int next = index + 1;
+                final double frac = (millis - times[index]) / (times[next] - times[index]);
+                if (doubleTarget != null) {
+                    doubleTarget.set(interpolators[next].interpolate(doubleValues[index], doubleValues[next], frac));
+                } else {
+                    targets[i].setValue(interpolators[next].interpolate(values[index], values[next], frac));
+                }
+            }
+        }
+    }
+
+    private static final class KeyValueEntry {
+        private final double time;
+        private final KeyValue keyValue;
+
+        private KeyValueEntry(double time, KeyValue keyValue) {
+            this.time = time;
+            this.keyValue = keyValue;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.Duration;
+
+/**
+ * JFoenix animation quality governor, it measures the time spent per pulse in
+ * JFoenix animations ({@link JFXAnimationTimer}, {@link CachedTransition}, ripples
+ * and masonry relayout animations) and degrades the animations progressively
+ * when that time exceeds the frame budget:
+ * <ul>
+ * <li>{@link DegradationLevel#SKIP_FRAMES}: every other frame is skipped</li>
+ * <li>{@link DegradationLevel#SHORTEN_DURATIONS}: frames are skipped and animations run twice as fast</li>
+ * <li>{@link DegradationLevel#APPLY_END_VALUES}: animations jump to their end values</li>
+ * </ul>
+ * the level is restored gradually once the animations cost is back under the budget.
+ * <p>
+ * custom animations can participate by reporting their cost using {@link #record(long)}
+ * and honoring {@link #getTimeScale()}, {@link #isFrameSkipped()} and {@link #isApplyingEndValues()}.
+ * <p>
+ * NOTE: the governor must only be used from the FX application thread
+ */
+public final class JFXAnimationGovernor {
+
+    public enum DegradationLevel {
+        NONE, SKIP_FRAMES, SHORTEN_DURATIONS, APPLY_END_VALUES
+    }
+
+    private static final JFXAnimationGovernor INSTANCE = new JFXAnimationGovernor();
+
+    // number of consecutive pulses over / under budget before changing the level
+    private static final int DEGRADE_PULSES = 3;
+    private static final int RESTORE_PULSES = 60;
+    // number of pulses without recorded animations before the governor stops measuring
+    private static final int IDLE_PULSES = 30;
+
+    public static JFXAnimationGovernor getInstance() {
+        return INSTANCE;
+    }
+
+    private final AnimationTimer pulseReceiver = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            pulse();
+        }
+    };
+
+    private boolean running = false;
+    private long pulseCount = 0;
+    private long pulseCost = 0;
+    private boolean recorded = false;
+    private double averageCost = 0;
+    private int overBudgetPulses = 0;
+    private int underBudgetPulses = 0;
+    private int idlePulses = 0;
+    private int level = 0;
+
+    private JFXAnimationGovernor() {
+    }
+
+    /**
+     * reports the time spent by an animation in the current pulse
+     *
+     * @param nanos the animation cost in nanoseconds
+     */
+    public void record(long nanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        pulseCost += nanos;
+        recorded = true;
+        if (!running) {
+            running = true;
+            pulseReceiver.start();
+        }
+    }
+
+    // called once per pulse, the recorded cost between two calls is the cost of one pulse
+    private void pulse() {
+        pulseCount++;
+        if (!recorded) {
+            if (++idlePulses >= IDLE_PULSES) {
+                running = false;
+                pulseReceiver.stop();
+                reset();
+            }
+            return;
+        }
+        idlePulses = 0;
+        averageCost += (pulseCost - averageCost) * 0.25;
+        pulseCost = 0;
+        recorded = false;
+
+        final double budget = getFrameBudget().toMillis() * 1000000.0;
+        if (averageCost > budget) {
+            underBudgetPulses = 0;
+            if (++overBudgetPulses >= DEGRADE_PULSES && level < DegradationLevel.APPLY_END_VALUES.ordinal()) {
+                overBudgetPulses = 0;
+                setLevel(level + 1);
+            }
+        } else if (averageCost < budget / 2) {
+            overBudgetPulses = 0;
+            if (++underBudgetPulses >= RESTORE_PULSES && level > 0) {
+                underBudgetPulses = 0;
+                setLevel(level - 1);
+            }
+        } else {
+            overBudgetPulses = 0;
+            underBudgetPulses = 0;
+        }
+    }
+
+    private void reset() {
+        pulseCost = 0;
+        recorded = false;
+        averageCost = 0;
+        overBudgetPulses = 0;
+        underBudgetPulses = 0;
+        idlePulses = 0;
+        setLevel(0);
+    }
+
+    private void setLevel(int level) {
+        this.level = level;
+        degradationLevel.set(DegradationLevel.values()[level]);
+    }
+
+    /**
+     * @return the factor that should be applied to the elapsed time of animations
+     */
+    public double getTimeScale() {
+        return level >= DegradationLevel.SHORTEN_DURATIONS.ordinal() ? 2 : 1;
+    }
+
+    /**
+     * @return true if intermediate animation frames should be skipped in the current pulse
+     */
+    public boolean isFrameSkipped() {
+        return level >= DegradationLevel.SKIP_FRAMES.ordinal()
+               && level < DegradationLevel.APPLY_END_VALUES.ordinal()
+               && (pulseCount & 1) == 1;
+    }
+
+    /**
+     * @return true if animations should jump to their end values
+     */
+    public boolean isApplyingEndValues() {
+        return level == DegradationLevel.APPLY_END_VALUES.ordinal();
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * the current degradation level of JFoenix animations
+     */
+    private final ReadOnlyObjectWrapper<DegradationLevel> degradationLevel =
+        new ReadOnlyObjectWrapper<>(this, "degradationLevel", DegradationLevel.NONE);
+
+    public ReadOnlyObjectProperty<DegradationLevel> degradationLevelProperty() {
+        return degradationLevel.getReadOnlyProperty();
+    }
+
+    public DegradationLevel getDegradationLevel() {
+        return degradationLevel.get();
+    }
+
+    /**
+     * the maximum time JFoenix animations should take per pulse
+     */
+    private final ObjectProperty<Duration> frameBudget = new SimpleObjectProperty<>(this, "frameBudget", Duration.millis(8));
+
+    public ObjectProperty<Duration> frameBudgetProperty() {
+        return frameBudget;
+    }
+
+    public Duration getFrameBudget() {
+        return frameBudget.get();
+    }
+
+    public void setFrameBudget(Duration frameBudget) {
+        this.frameBudget.set(frameBudget);
+    }
+
+    /**
+     * disable the governor to always run animations in full quality
+     */
+    private final BooleanProperty enabled = new SimpleBooleanProperty(this, "enabled", true) {
+        @Override
+        protected void invalidated() {
+            if (!get()) {
+                if (running) {
+                    running = false;
+                    pulseReceiver.stop();
+                }
+                reset();
+            }
+        }
+    };
+
+    public BooleanProperty enabledProperty() {
+        return enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled.set(enabled);
+    }
+}
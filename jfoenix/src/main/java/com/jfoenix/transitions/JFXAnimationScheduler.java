@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.Arrays;
+
+/**
+ * JFoenix animation scheduler, all running {@link JFXAnimationTimer}s are
+ * multiplexed on a single pulse receiver instead of registering one per timer.
+ * <p>
+ * timers are added / removed in constant time, the pulse receiver is only
+ * registered while there are running timers.
+ * <p>
+ * NOTE: the scheduler must only be used from the FX application thread
+ */
+public final class JFXAnimationScheduler {
+
+    private static final JFXAnimationScheduler INSTANCE = new JFXAnimationScheduler();
+
+    public static JFXAnimationScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    private final AnimationTimer pulseReceiver = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            pulse(now);
+        }
+    };
+
+    private JFXAnimationTimer[] timers = new JFXAnimationTimer[16];
+    private int count = 0;
+    private boolean running = false;
+    private long frameTime = 0;
+
+    private JFXAnimationScheduler() {
+    }
+
+    void add(JFXAnimationTimer timer) {
+        if (timer.schedulerSlot != -1) {
+            return;
+        }
+        if (count == timers.length) {
+            timers = Arrays.copyOf(timers, count * 2);
+        }
+        timers[count] = timer;
+        timer.schedulerSlot = count++;
+        if (!running) {
+            running = true;
+            pulseReceiver.start();
+        }
+    }
+
+    void remove(JFXAnimationTimer timer) {
+        final int slot = timer.schedulerSlot;
+        if (slot == -1) {
+            return;
+        }
+        timer.schedulerSlot = -1;
+        final int last = --count;
+        if (slot != last) {
+            // move the last timer to the removed slot
+            timers[slot] = timers[last];
+            timers[slot].schedulerSlot = slot;
+        }
+        timers[last] = null;
+    }
+
+    private void pulse(long now) {
+        final long begin = System.nanoTime();
+        // iterate backward, so timers can be stopped while iterating
+        for (int i = count - 1; i >= 0; i--) {
+            if (i >= count) {
+                // timers were stopped by another timer
+                continue;
+            }
+            final JFXAnimationTimer timer = timers[i];
+            // a timer that was moved by a removal could be visited twice in the same pulse
+            if (timer.lastPulse != now) {
+                timer.lastPulse = now;
+                timer.handle(now);
+            }
+        }
+        frameTime = System.nanoTime() - begin;
+        JFXAnimationGovernor.getInstance().record(frameTime);
+        if (count == 0) {
+            running = false;
+            pulseReceiver.stop();
+        }
+    }
+
+    /**
+     * @return the number of running animation timers
+     */
+    public int getActiveCount() {
+        return count;
+    }
+
+    /**
+     * @return the time spent in nanoseconds, to advance all running timers in the last pulse
+     */
+    public long getFrameTime() {
+        return frameTime;
+    }
+}
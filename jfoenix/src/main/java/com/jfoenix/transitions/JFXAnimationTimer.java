@@ -20,13 +20,15 @@
 package com.jfoenix.transitions;
 
 import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.beans.value.WritableDoubleValue;
 import javafx.beans.value.WritableValue;
 import javafx.scene.Node;
 import javafx.util.Duration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -35,6 +37,9 @@ import java.util.function.Supplier;
  * Custom AnimationTimer that can be created the same way as a timeline,
  * however it doesn't behave the same yet. it only animates in one direction,
  * it doesn't support animation 0 -> 1 -> 0.5
+ * <p>
+ * running timers are driven by the shared {@link JFXAnimationScheduler}
+ * instead of registering their own pulse receiver.
  *
  * @author Shadi Shaheen
  * @version 1.0
@@ -43,12 +48,16 @@ import java.util.function.Supplier;
 
 public class JFXAnimationTimer extends AnimationTimer {
 
-    private Set<AnimationHandler> animationHandlers = new HashSet<>();
+    private List<AnimationHandler> animationHandlers = new ArrayList<>();
     private long startTime = -1;
     private boolean running = false;
     private List<CacheMemento> caches = new ArrayList<>();
     private double totalElapsedMilliseconds;
 
+    // scheduler state
+    int schedulerSlot = -1;
+    long lastPulse = Long.MIN_VALUE;
+
 
     public JFXAnimationTimer(JFXKeyFrame... keyFrames) {
         for (JFXKeyFrame keyFrame : keyFrames) {
@@ -85,12 +94,20 @@ public class JFXAnimationTimer extends AnimationTimer {
 
     @Override
     public void start() {
-        super.start();
         running = true;
         startTime = -1;
         for (AnimationHandler animationHandler : animationHandlers) {
             animationHandler.init();
         }
+        if (JFXReducedMotion.isReducedMotion(owner)) {
+            // apply end values and finish immediately
+            for (AnimationHandler animationHandler : animationHandlers) {
+                animationHandler.animate(Double.POSITIVE_INFINITY);
+            }
+            stop();
+            return;
+        }
+        JFXAnimationScheduler.getInstance().add(this);
         for (CacheMemento cache : caches) {
             cache.cache();
         }
@@ -99,10 +116,17 @@ public class JFXAnimationTimer extends AnimationTimer {
     @Override
     public void handle(long now) {
         startTime = startTime == -1 ? now : startTime;
-        totalElapsedMilliseconds = (now - startTime) / 1000000.0;
+        final JFXAnimationGovernor governor = JFXAnimationGovernor.getInstance();
+        totalElapsedMilliseconds = (now - startTime) / 1000000.0 * governor.getTimeScale();
+        if (governor.isFrameSkipped()) {
+            return;
+        }
+        final double time = governor.isApplyingEndValues() ? Double.POSITIVE_INFINITY : totalElapsedMilliseconds;
         boolean stop = true;
-        for (AnimationHandler handler : animationHandlers) {
-            handler.animate(totalElapsedMilliseconds);
+        // index based iteration to avoid creating an iterator every frame
+        for (int i = 0, size = animationHandlers.size(); i < size; i++) {
+            final AnimationHandler handler = animationHandlers.get(i);
+            handler.animate(time);
             if (!handler.finished) {
                 stop = false;
             }
@@ -118,12 +142,12 @@ public class JFXAnimationTimer extends AnimationTimer {
      */
     public void reverseAndContinue() {
         if (isRunning()) {
-            super.stop();
+            JFXAnimationScheduler.getInstance().remove(this);
             for (AnimationHandler handler : animationHandlers) {
                 handler.reverse(totalElapsedMilliseconds);
             }
             startTime = -1;
-            super.start();
+            JFXAnimationScheduler.getInstance().add(this);
         } else {
             start();
         }
@@ -131,7 +155,7 @@ public class JFXAnimationTimer extends AnimationTimer {
 
     @Override
     public void stop() {
-        super.stop();
+        JFXAnimationScheduler.getInstance().remove(this);
         running = false;
         for (AnimationHandler handler : animationHandlers) {
             handler.clear();
@@ -146,7 +170,7 @@ public class JFXAnimationTimer extends AnimationTimer {
 
     public void applyEndValues() {
         if (isRunning()) {
-            super.stop();
+            JFXAnimationScheduler.getInstance().remove(this);
         }
         for (AnimationHandler handler : animationHandlers) {
             handler.applyEndValues();
@@ -164,6 +188,20 @@ public class JFXAnimationTimer extends AnimationTimer {
         this.onFinished = onFinished;
     }
 
+    private Node owner = null;
+
+    /**
+     * sets the node animated by the timer, it's used to resolve the reduced motion
+     * mode of the timer (see {@link JFXReducedMotion})
+     */
+    public void setOwner(Node owner) {
+        this.owner = owner;
+    }
+
+    public Node getOwner() {
+        return owner;
+    }
+
     public void setCacheNodes(Node... nodesToCache) {
         caches.clear();
         if (nodesToCache != null) {
@@ -181,6 +219,15 @@ public class JFXAnimationTimer extends AnimationTimer {
         animationHandlers.clear();
     }
 
+    /**
+     * animation handler of a key frame, the key values are compiled into flat arrays
+     * when the animation starts (or reversed). targets of type {@link WritableDoubleValue}
+     * are interpolated using primitive doubles, so animating them doesn't allocate any
+     * objects per frame.
+     * <p>
+     * NOTE: key value targets, end values and animate conditions are evaluated when the
+     * animation starts / reverses and when it finishes, not on every frame.
+     */
     static class AnimationHandler {
         private double duration;
         private double currentDuration;
@@ -188,8 +235,15 @@ public class JFXAnimationTimer extends AnimationTimer {
         private Supplier<Boolean> animationCondition = null;
         private boolean finished = false;
 
-        private HashMap<WritableValue<?>, Object> initialValuesMap = new HashMap<>();
-        private HashMap<WritableValue<?>, Object> endValuesMap = new HashMap<>();
+        // compiled key values
+        private int count = 0;
+        private WritableValue[] targets = new WritableValue[0];
+        private WritableDoubleValue[] doubleTargets = new WritableDoubleValue[0];
+        private Interpolator[] interpolators = new Interpolator[0];
+        private double[] startValues = new double[0];
+        private double[] endValues = new double[0];
+        private Object[] startObjects = new Object[0];
+        private Object[] endObjects = new Object[0];
 
         AnimationHandler(Duration duration, Supplier<Boolean> animationCondition, Set<JFXKeyValue<?>> keyValues) {
             this.duration = duration.toMillis();
@@ -200,29 +254,52 @@ public class JFXAnimationTimer extends AnimationTimer {
 
         public void init() {
             finished = animationCondition == null ? false : !animationCondition.get();
-            for (JFXKeyValue keyValue : keyValues) {
-                if (keyValue.getTarget() != null) {
-                    // replaced putIfAbsent for mobile compatibility
-                    if (!initialValuesMap.containsKey(keyValue.getTarget())) {
-                        initialValuesMap.put(keyValue.getTarget(), keyValue.getTarget().getValue());
-                    }
-                    if (!endValuesMap.containsKey(keyValue.getTarget())) {
-                        endValuesMap.put(keyValue.getTarget(), keyValue.getEndValue());
-                    }
-                }
-            }
+            compile();
         }
 
         void reverse(double now) {
             finished = animationCondition == null ? false : !animationCondition.get();
             currentDuration = duration - (currentDuration - now);
             // update initial values
+            compile();
+        }
+
+        private void compile() {
+            clear();
+            ensureCapacity(keyValues.size());
             for (JFXKeyValue keyValue : keyValues) {
+                if (!keyValue.isValid()) {
+                    continue;
+                }
                 final WritableValue target = keyValue.getTarget();
-                if (target != null) {
-                    initialValuesMap.put(target, target.getValue());
-                    endValuesMap.put(target, keyValue.getEndValue());
+                final Object endValue = target == null ? null : keyValue.getEndValue();
+                if (endValue == null) {
+                    continue;
+                }
+                final Object startValue = target.getValue();
+                if (target instanceof WritableDoubleValue && endValue instanceof Number && startValue instanceof Number) {
+                    doubleTargets[count] = (WritableDoubleValue) target;
+                    startValues[count] = ((Number) startValue).doubleValue();
+                    endValues[count] = ((Number) endValue).doubleValue();
+                } else {
+                    targets[count] = target;
+                    startObjects[count] = startValue;
+                    endObjects[count] = endValue;
                 }
+                interpolators[count] = keyValue.getInterpolator();
+                count++;
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > targets.length) {
+                targets = new WritableValue[capacity];
+                doubleTargets = new WritableDoubleValue[capacity];
+                interpolators = new Interpolator[capacity];
+                startValues = new double[capacity];
+                endValues = new double[capacity];
+                startObjects = new Object[capacity];
+                endObjects = new Object[capacity];
             }
         }
 
@@ -233,32 +310,36 @@ public class JFXAnimationTimer extends AnimationTimer {
                 return;
             }
             if (now <= currentDuration) {
-                for (JFXKeyValue keyValue : keyValues) {
-                    if (keyValue.isValid()) {
-                        final WritableValue target = keyValue.getTarget();
-                        final Object endValue = endValuesMap.get(target);
-                        if (endValue != null && target != null && !target.getValue().equals(endValue)) {
-                            target.setValue(keyValue.getInterpolator().interpolate(initialValuesMap.get(target), endValue, now / currentDuration));
+                final double frac = now / currentDuration;
+                for (int i = 0; i < count; i++) {
+                    final WritableDoubleValue doubleTarget = doubleTargets[i];
+                    if (doubleTarget != null) {
+                        if (doubleTarget.get() != endValues[i]) {
+                            doubleTarget.set(interpolators[i].interpolate(startValues[i], endValues[i], frac));
+                        }
+                    } else {
+                        final WritableValue target = targets[i];
+                        final Object endValue = endObjects[i];
+                        if (!endValue.equals(target.getValue())) {
+                            target.setValue(interpolators[i].interpolate(startObjects[i], endValue, frac));
                         }
                     }
                 }
             } else {
-                if (!finished) {
-                    finished = true;
-                    for (JFXKeyValue keyValue : keyValues) {
-                        if (keyValue.isValid()) {
-                            final WritableValue target = keyValue.getTarget();
-                            if (target != null) {
-                                // set updated end value instead of cached
-                                final Object endValue = keyValue.getEndValue();
-                                if (endValue != null) {
-                                    target.setValue(endValue);
-                                }
+                finished = true;
+                for (JFXKeyValue keyValue : keyValues) {
+                    if (keyValue.isValid()) {
+                        final WritableValue target = keyValue.getTarget();
+                        if (target != null) {
+                            // set updated end value instead of cached
+                            final Object endValue = keyValue.getEndValue();
+                            if (endValue != null) {
+                                target.setValue(endValue);
                             }
                         }
                     }
-                    currentDuration = duration;
                 }
+                currentDuration = duration;
             }
         }
 
@@ -277,8 +358,13 @@ public class JFXAnimationTimer extends AnimationTimer {
         }
 
         public void clear() {
-            initialValuesMap.clear();
-            endValuesMap.clear();
+            // release references to the animated values
+            Arrays.fill(targets, 0, count, null);
+            Arrays.fill(doubleTargets, 0, count, null);
+            Arrays.fill(interpolators, 0, count, null);
+            Arrays.fill(startObjects, 0, count, null);
+            Arrays.fill(endObjects, 0, count, null);
+            count = 0;
         }
 
         void dispose() {
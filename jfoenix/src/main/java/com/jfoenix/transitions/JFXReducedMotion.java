@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.transitions;
+
+import com.jfoenix.controls.base.IFXStaticControl;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.css.StyleableBooleanProperty;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.PopupWindow;
+import javafx.stage.Window;
+
+/**
+ * Reduced motion mode of JFoenix, when enabled JFoenix animations apply
+ * their end states immediately instead of animating.
+ * <p>
+ * the global mode can be overridden for a node and its descendants, either using
+ * {@link #setReducedMotion(Node, Boolean)} or, for controls supporting it,
+ * by setting the disable animation property in code or in CSS
+ * ({@code -jfx-disable-animation}).
+ * the override of the closest node (starting from the animated node) wins,
+ * the nodes of popups inherit the override of their owner node.
+ */
+public final class JFXReducedMotion {
+
+    private static final String REDUCED_MOTION_KEY = "jfx-reduced-motion";
+
+    private static final BooleanProperty reducedMotion = new SimpleBooleanProperty(JFXReducedMotion.class, "reducedMotion", false);
+
+    private JFXReducedMotion() {
+    }
+
+    /**
+     * global reduced motion mode, disabled by default
+     */
+    public static BooleanProperty reducedMotionProperty() {
+        return reducedMotion;
+    }
+
+    public static boolean isReducedMotion() {
+        return reducedMotion.get();
+    }
+
+    public static void setReducedMotion(boolean reduced) {
+        reducedMotion.set(reduced);
+    }
+
+    /**
+     * overrides the global reduced motion mode for the node and its descendants
+     *
+     * @param node    the node
+     * @param reduced the reduced motion mode of the node, null to inherit it
+     */
+    public static void setReducedMotion(Node node, Boolean reduced) {
+        if (reduced == null) {
+            node.getProperties().remove(REDUCED_MOTION_KEY);
+        } else {
+            node.getProperties().put(REDUCED_MOTION_KEY, reduced);
+        }
+    }
+
+    /**
+     * @return the reduced motion override of the node, null if it's not set
+     */
+    public static Boolean getReducedMotion(Node node) {
+        if (node.hasProperties()) {
+            final Object value = node.getProperties().get(REDUCED_MOTION_KEY);
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param node the animated node, can be null
+     * @return true if the animations of the node should apply their end states immediately
+     */
+    public static boolean isReducedMotion(Node node) {
+        Node current = node;
+        while (current != null) {
+            final Boolean value = getReducedMotion(current);
+            if (value != null) {
+                return value;
+            }
+            if (current instanceof IFXStaticControl) {
+                final StyleableBooleanProperty disableAnimation = ((IFXStaticControl) current).disableAnimationProperty();
+                // only explicitly set values (in code or css) override the global mode
+                if (disableAnimation != null && disableAnimation.getStyleOrigin() != null) {
+                    return disableAnimation.get();
+                }
+            }
+            current = getParent(current);
+        }
+        return reducedMotion.get();
+    }
+
+    private static Node getParent(Node node) {
+        final Node parent = node.getParent();
+        if (parent != null) {
+            return parent;
+        }
+        // continue from the owner node of popups
+        final Scene scene = node.getScene();
+        if (scene != null && scene.getRoot() == node) {
+            final Window window = scene.getWindow();
+            if (window instanceof PopupWindow) {
+                return ((PopupWindow) window).getOwnerNode();
+            }
+        }
+        return null;
+    }
+}